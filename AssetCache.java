@@ -0,0 +1,329 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reference-counted texture and atlas registry owned by {@link MainGame}.
+ * Screens acquire a texture or atlas by path and release it when they are disposed. A
+ * released asset stays uploaded on the GPU, so a retry or level change that asks for the
+ * same image again gets the already resident texture instead of decoding it a second time.
+ * Images can also be preloaded: they are decoded on worker threads and uploaded one per
+ * {@link #update()} call on the render thread.
+ */
+public class AssetCache implements Disposable {
+
+    // Asset paths shared by the screens
+    public static final String BIRD = "Red_png.png";
+    public static final String PILLAR = "Toons_Wood_Block.png";
+    public static final String PIG = "Pig_29 (1).png";
+    public static final String SLINGSHOT = "Slingshot_Classic.png";
+    public static final String PLANK = "horizontalplank.png";
+    public static final String LEVEL_BACKGROUND = "seamless-game-nature-landscape-parallax-background-2d-game-outdoor-mountains-trees-clouds-illustrations_80590-7362.jpg";
+    public static final String MENU_BACKGROUND = "Angry_birds_2010.jpg";
+    public static final String GAME_OVER_BACKGROUND = "game over.png";
+    public static final String LEVEL_COMPLETE_BACKGROUND = "levelcomplete.png";
+
+    // Gameplay sprite atlas written by AtlasPacker, and its region names
+    public static final String SPRITE_ATLAS = "sprites.atlas";
+    public static final String REGION_BIRD = "bird";
+    public static final String REGION_PILLAR = "pillar";
+    public static final String REGION_PIG = "pig";
+    public static final String REGION_SLINGSHOT = "slingshot";
+    public static final String REGION_PLANK = "plank";
+    // Atlas region field holding the size of the image a sprite was resampled from
+    public static final String SOURCE_SIZE = "source";
+
+    private static class Entry {
+        Disposable asset;
+        int refCount;
+        long bytes;
+    }
+
+    // A texture or atlas decoded off the render thread and waiting for its GL upload
+    private static class Pending {
+        Future<?> decoded;
+        TextureAtlas.TextureAtlasData atlasData;
+        TextureData[] pages;
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Pending> pending = new LinkedHashMap<>();
+    private ExecutorService decoder;
+
+    // Statistics
+    private int hits = 0;
+    private int misses = 0;
+    private long residentBytes = 0;
+
+    public Texture acquire(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+            Pending load = pending.remove(path);
+            if (load != null) {
+                entry = upload(path, load);
+            } else {
+                Texture texture = new Texture(Gdx.files.internal(path));
+                entry = store(path, texture, estimateBytes(texture));
+            }
+        }
+        entry.refCount++;
+        return (Texture) entry.asset;
+    }
+
+    public TextureAtlas acquireAtlas(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+            Pending load = pending.remove(path);
+            if (load != null) {
+                entry = upload(path, load);
+            } else {
+                TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(path));
+                entry = store(path, atlas, estimateBytes(atlas));
+            }
+        }
+        entry.refCount++;
+        return (TextureAtlas) entry.asset;
+    }
+
+    private Entry store(String path, Disposable asset, long bytes) {
+        Entry entry = new Entry();
+        entry.asset = asset;
+        entry.bytes = bytes;
+        residentBytes += bytes;
+        entries.put(path, entry);
+        return entry;
+    }
+
+    /** Starts decoding a texture on a worker thread unless it is already resident or on its way. */
+    public void preload(String path) {
+        preload(path, false);
+    }
+
+    /** Starts parsing an atlas and decoding its pages on a worker thread. */
+    public void preloadAtlas(String path) {
+        preload(path, true);
+    }
+
+    private void preload(String path, boolean atlas) {
+        if (entries.containsKey(path) || pending.containsKey(path)) {
+            return;
+        }
+        Pending load = new Pending();
+        load.decoded = decoder().submit(() -> decode(path, atlas, load));
+        pending.put(path, load);
+    }
+
+    private static void decode(String path, boolean atlas, Pending load) {
+        FileHandle file = Gdx.files.internal(path);
+        if (atlas) {
+            TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+            TextureData[] pages = new TextureData[data.getPages().size];
+            for (int i = 0; i < pages.length; i++) {
+                TextureAtlas.TextureAtlasData.Page page = data.getPages().get(i);
+                pages[i] = TextureData.Factory.loadFromFile(page.textureFile, page.format, page.useMipMaps);
+                pages[i].prepare();
+            }
+            load.atlasData = data;
+            load.pages = pages;
+        } else {
+            TextureData data = TextureData.Factory.loadFromFile(file, null, false);
+            data.prepare();
+            load.pages = new TextureData[] {data};
+        }
+    }
+
+    private ExecutorService decoder() {
+        if (decoder == null) {
+            int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+            decoder = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "asset-decoder");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return decoder;
+    }
+
+    /**
+     * Uploads at most one finished preload to the GPU. Call once per frame on the render
+     * thread so the uploads are spread out.
+     *
+     * @return true once nothing is left to load
+     */
+    public boolean update() {
+        Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Pending> next = it.next();
+            if (next.getValue().decoded.isDone()) {
+                it.remove();
+                upload(next.getKey(), next.getValue());
+                break;
+            }
+        }
+        return pending.isEmpty();
+    }
+
+    /** Waits for every preload and uploads it now. */
+    public void finishLoading() {
+        for (Map.Entry<String, Pending> next : pending.entrySet()) {
+            upload(next.getKey(), next.getValue());
+        }
+        pending.clear();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private Entry upload(String path, Pending load) {
+        try {
+            load.decoded.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while loading " + path, e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Cannot load " + path, e.getCause());
+        }
+
+        if (load.atlasData == null) {
+            Texture texture = new Texture(load.pages[0]);
+            return store(path, texture, estimateBytes(texture));
+        }
+        for (int i = 0; i < load.pages.length; i++) {
+            TextureAtlas.TextureAtlasData.Page page = load.atlasData.getPages().get(i);
+            page.texture = new Texture(load.pages[i]);
+            page.texture.setFilter(page.minFilter, page.magFilter);
+            page.texture.setWrap(page.uWrap, page.vWrap);
+        }
+        TextureAtlas atlas = new TextureAtlas(load.atlasData);
+        return store(path, atlas, estimateBytes(atlas));
+    }
+
+    public void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.refCount == 0) {
+            throw new IllegalStateException("Asset released more often than acquired: " + path);
+        }
+        // Keep the asset resident so the next acquire is a hit; see evictUnused()
+        entry.refCount--;
+    }
+
+    /** Disposes every asset that no screen currently holds. */
+    public void evictUnused() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.refCount == 0) {
+                residentBytes -= entry.bytes;
+                entry.asset.dispose();
+                it.remove();
+            }
+        }
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public int getResidentCount() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "AssetCache[hits=" + hits + ", misses=" + misses
+            + ", resident=" + entries.size() + " assets / " + (residentBytes / 1024) + " KiB]";
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("AssetCache", toString());
+        if (decoder != null) {
+            decoder.shutdownNow();
+        }
+        pending.clear();
+        for (Entry entry : entries.values()) {
+            entry.asset.dispose();
+        }
+        entries.clear();
+        residentBytes = 0;
+    }
+
+    static long estimateBytes(TextureAtlas atlas) {
+        long bytes = 0;
+        for (Texture page : atlas.getTextures()) {
+            bytes += estimateBytes(page);
+        }
+        return bytes;
+    }
+
+    static long estimateBytes(Texture texture) {
+        long bytes = (long) texture.getWidth() * texture.getHeight()
+            * bytesPerPixel(texture.getTextureData().getFormat());
+        // A full mip chain adds a third
+        return texture.getMinFilter().isMipMap() ? bytes * 4 / 3 : bytes;
+    }
+
+    /**
+     * Width of the image a region was packed from. {@link AtlasPacker} shrinks sprites to
+     * the size they are drawn at; sizes given relative to the image use this one so they
+     * do not change.
+     */
+    public static int sourceWidth(TextureRegion region) {
+        int[] size = sourceSize(region);
+        return size != null ? size[0] : region.getRegionWidth();
+    }
+
+    /** Height of the image a region was packed from, see {@link #sourceWidth}. */
+    public static int sourceHeight(TextureRegion region) {
+        int[] size = sourceSize(region);
+        return size != null ? size[1] : region.getRegionHeight();
+    }
+
+    private static int[] sourceSize(TextureRegion region) {
+        return region instanceof TextureAtlas.AtlasRegion ? ((TextureAtlas.AtlasRegion) region).findValue(SOURCE_SIZE) : null;
+    }
+
+    static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
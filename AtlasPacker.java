@@ -0,0 +1,294 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Offline build step that packs the gameplay sprites into {@link AssetCache#SPRITE_ATLAS}.
+ * Run it on the desktop with gdx-tools on the classpath whenever a sprite PNG or a level's
+ * draw sizes change:
+ * <pre>AtlasPacker [assetsDir] [outputDir] [level.json...]</pre>
+ * Each sprite is first resampled down to the largest size it is ever drawn at. That size is
+ * taken from the screens' own drawing code and from the {@code draw} entries of the level
+ * files, which default to {@code levels/*.json}, times {@link #DENSITY}. The atlas is
+ * mipmapped, since the camera zooms out. Every region records its source image size under
+ * {@link AssetCache#SOURCE_SIZE}, so sizes given as a scale of the source image draw as
+ * before. The level background is resampled to the largest window it fills, unless that
+ * would overwrite the source. A VRAM report is written next to the atlas.
+ */
+public class AtlasPacker {
+
+    // Source image -> region name
+    static final String[][] SPRITES = {
+        {AssetCache.BIRD, AssetCache.REGION_BIRD},
+        {AssetCache.PILLAR, AssetCache.REGION_PILLAR},
+        {AssetCache.PIG, AssetCache.REGION_PIG},
+        {AssetCache.SLINGSHOT, AssetCache.REGION_SLINGSHOT},
+        {AssetCache.PLANK, AssetCache.REGION_PLANK},
+    };
+
+    // Window size, relative to the 1280x720 the levels were laid out for, up to which nothing is magnified
+    static final float DENSITY = 2;
+    static final float JPEG_QUALITY = 0.92f;
+    static final String REPORT = "vram-report.txt";
+
+    public static void main(String[] args) throws IOException {
+        File inputDir = new File(args.length > 0 ? args[0] : "assets");
+        File outputDir = args.length > 1 ? new File(args[1]) : inputDir;
+        List<File> levels = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            levels.add(new File(args[i]));
+        }
+        if (args.length <= 2) {
+            File[] found = new File("levels").listFiles((dir, name) -> name.endsWith(".json"));
+            if (found != null) {
+                Arrays.sort(found);
+                levels.addAll(Arrays.asList(found));
+            }
+        }
+
+        Map<String, BufferedImage> sources = new LinkedHashMap<>();
+        for (String[] sprite : SPRITES) {
+            BufferedImage image = ImageIO.read(new File(inputDir, sprite[0]));
+            if (image == null) {
+                throw new IOException("Cannot read sprite " + new File(inputDir, sprite[0]));
+            }
+            sources.put(sprite[1], image);
+        }
+
+        DrawSizes draws = new DrawSizes(sources);
+        addScreenDraws(draws);
+        for (File level : levels) {
+            addLevelDraws(draws, new JsonReader().parse(new FileHandle(level)));
+        }
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 4096;
+        settings.maxHeight = 4096;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.filterMin = Texture.TextureFilter.MipMapLinearLinear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-10s %11s %11s %7s%n", "region", "source", "packed", "scale"));
+        long sourceBytes = 0;
+        TexturePacker packer = new TexturePacker(settings);
+        for (Map.Entry<String, BufferedImage> sprite : sources.entrySet()) {
+            String region = sprite.getKey();
+            BufferedImage source = sprite.getValue();
+            float scale = draws.targetScale(region);
+            BufferedImage packed = resample(source, Math.round(source.getWidth() * scale), Math.round(source.getHeight() * scale));
+            packer.addImage(packed, region);
+
+            sourceBytes += (long) source.getWidth() * source.getHeight() * 4;
+            report.append(String.format("%-10s %5dx%-5d %5dx%-5d %7.3f%n", region, source.getWidth(), source.getHeight(),
+                packed.getWidth(), packed.getHeight(), scale));
+        }
+
+        String packName = AssetCache.SPRITE_ATLAS.substring(0, AssetCache.SPRITE_ATLAS.lastIndexOf('.'));
+        packer.pack(outputDir, packName);
+        File atlas = new File(outputDir, AssetCache.SPRITE_ATLAS);
+        addSourceSizes(atlas, sources);
+
+        long pageBytes = 0;
+        File[] pages = outputDir.listFiles((dir, name) -> name.matches(java.util.regex.Pattern.quote(packName) + "\\d*\\.png"));
+        for (File page : pages != null ? pages : new File[0]) {
+            BufferedImage image = ImageIO.read(page);
+            // RGBA8888 plus a third for the mip chain
+            long bytes = (long) image.getWidth() * image.getHeight() * 4 * 4 / 3;
+            pageBytes += bytes;
+            report.append(String.format("page %s: %dx%d, %d KiB with mipmaps%n", page.getName(),
+                image.getWidth(), image.getHeight(), bytes / 1024));
+        }
+
+        long[] background = packBackground(inputDir, outputDir, report);
+        long before = sourceBytes + background[0];
+        long after = pageBytes + background[1];
+        report.append(String.format("sprites:    %8d KiB -> %8d KiB%n", sourceBytes / 1024, pageBytes / 1024));
+        report.append(String.format("background: %8d KiB -> %8d KiB%n", background[0] / 1024, background[1] / 1024));
+        report.append(String.format("total:      %8d KiB -> %8d KiB (%.1f%%)%n", before / 1024, after / 1024,
+            before > 0 ? 100.0 * after / before : 0));
+
+        Files.write(new File(outputDir, REPORT).toPath(), report.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.print(report);
+        System.out.println("Packed " + SPRITES.length + " sprites into " + atlas);
+    }
+
+    /** Largest width and height in pixels each region is drawn at. */
+    static final class DrawSizes {
+        private final Map<String, BufferedImage> sources;
+        private final Map<String, float[]> largest = new HashMap<>();
+
+        DrawSizes(Map<String, BufferedImage> sources) {
+            this.sources = sources;
+        }
+
+        void add(String region, float width, float height) {
+            float[] size = largest.computeIfAbsent(region, r -> new float[2]);
+            size[0] = Math.max(size[0], width);
+            size[1] = Math.max(size[1], height);
+        }
+
+        /** A draw at {@code scale} times the source image size, as a level's {@code "scale"} gives. */
+        void addScaled(String region, float scale) {
+            BufferedImage source = sources.get(region);
+            if (source != null) {
+                add(region, source.getWidth() * scale, source.getHeight() * scale);
+            }
+        }
+
+        /** Factor to resample a region's source by; never above 1, and 1 if the region is never drawn. */
+        float targetScale(String region) {
+            float[] size = largest.get(region);
+            BufferedImage source = sources.get(region);
+            if (size == null) {
+                System.err.println("No draw size known for " + region + ", packing it at full size");
+                return 1;
+            }
+            float scale = DENSITY * Math.max(size[0] / source.getWidth(), size[1] / source.getHeight());
+            return Math.min(1, scale);
+        }
+    }
+
+    /** Sizes hard-coded in the level screen and level worlds. */
+    static void addScreenDraws(DrawSizes draws) {
+        float largestBird = 0;
+        for (BirdType type : BirdType.values()) {
+            largestBird = Math.max(largestBird, type.drawScale());
+        }
+        // GameScreen draws the bird and pig at SCALE of the source image
+        draws.addScaled(AssetCache.REGION_BIRD, GameScreen.SCALE * largestBird);
+        draws.addScaled(AssetCache.REGION_PIG, GameScreen.SCALE);
+        draws.add(AssetCache.REGION_PILLAR, 20, 178);
+        draws.add(AssetCache.REGION_SLINGSHOT, LevelWorld.PLATFORM_WIDTH * LevelWorld.PPM,
+            LevelWorld.PLATFORM_HEIGHT * LevelWorld.PPM);
+        // LevelTwoWorld's plank
+        draws.add(AssetCache.REGION_PLANK, 400, 10);
+    }
+
+    /** The {@code draw} entries of a JSON level, as {@link LevelCompiler} reads them. */
+    static void addLevelDraws(DrawSizes draws, JsonValue level) {
+        JsonValue bodies = level.get("bodies");
+        if (bodies == null) {
+            return;
+        }
+        for (JsonValue body = bodies.child; body != null; body = body.next) {
+            String region = body.getString("texture", null);
+            JsonValue draw = body.get("draw");
+            if (region == null || draw == null) {
+                continue;
+            }
+            if (draw.has("scale")) {
+                draws.addScaled(region, draw.getFloat("scale"));
+            } else {
+                draws.add(region, draw.getFloat("width"), draw.getFloat("height"));
+            }
+        }
+    }
+
+    /** Scales an image down by halving steps and one final bilinear pass, so detail is averaged rather than skipped. */
+    static BufferedImage resample(BufferedImage source, int width, int height) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        BufferedImage image = source;
+        if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            image = draw(image, image.getWidth(), image.getHeight());
+        }
+        while (image.getWidth() / 2 >= width && image.getHeight() / 2 >= height) {
+            image = draw(image, image.getWidth() / 2, image.getHeight() / 2);
+        }
+        if (image.getWidth() != width || image.getHeight() != height) {
+            image = draw(image, width, height);
+        }
+        return image;
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    /** Adds a {@code source: width, height} field to every sprite region of the written atlas. */
+    static void addSourceSizes(File atlas, Map<String, BufferedImage> sources) throws IOException {
+        List<String> lines = Files.readAllLines(atlas.toPath(), StandardCharsets.UTF_8);
+        List<String> out = new ArrayList<>(lines.size() + sources.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            out.add(line);
+            BufferedImage source = sources.get(line.trim());
+            if (source != null && i + 1 < lines.size()) {
+                // Region fields follow the name; match their indentation
+                String next = lines.get(i + 1);
+                String indent = next.substring(0, next.length() - next.trim().length());
+                out.add(indent + AssetCache.SOURCE_SIZE + ": " + source.getWidth() + ", " + source.getHeight());
+            }
+        }
+        Files.write(atlas.toPath(), out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resamples the level background to the largest window it is stretched over and writes
+     * it to the output directory.
+     *
+     * @return the background's RGB888 texture size in bytes before and after
+     */
+    static long[] packBackground(File inputDir, File outputDir, StringBuilder report) throws IOException {
+        File input = new File(inputDir, AssetCache.LEVEL_BACKGROUND);
+        BufferedImage source = ImageIO.read(input);
+        if (source == null) {
+            report.append("background: cannot read ").append(input).append(System.lineSeparator());
+            return new long[2];
+        }
+        long before = (long) source.getWidth() * source.getHeight() * 3;
+        float scale = Math.min(1, DENSITY * Math.max(CameraController.MIN_WORLD_WIDTH * LevelWorld.PPM / source.getWidth(),
+            CameraController.MIN_WORLD_HEIGHT * LevelWorld.PPM / source.getHeight()));
+        File output = new File(outputDir, AssetCache.LEVEL_BACKGROUND);
+        if (scale == 1 || output.getCanonicalFile().equals(input.getCanonicalFile())) {
+            report.append(String.format("background %dx%d kept%s%n", source.getWidth(), source.getHeight(),
+                scale == 1 ? "" : ": the output directory is the source directory"));
+            return new long[] {before, before};
+        }
+
+        BufferedImage resampled = resample(source, Math.round(source.getWidth() * scale), Math.round(source.getHeight() * scale));
+        BufferedImage rgb = new BufferedImage(resampled.getWidth(), resampled.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(resampled, 0, 0, null);
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        report.append(String.format("background %dx%d -> %dx%d%n", source.getWidth(), source.getHeight(),
+            rgb.getWidth(), rgb.getHeight()));
+        return new long[] {before, (long) rgb.getWidth() * rgb.getHeight() * 3};
+    }
+}
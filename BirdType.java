@@ -0,0 +1,32 @@
+package io.github.some_example_name;
+
+/**
+ * Kinds of bird a level can queue on its slingshot. A type fixes the bird's body and which
+ * of the special abilities it may use once it is in the air.
+ */
+public enum BirdType {
+    RED(10, 1.0f, 0.5f, true, true),
+    BOMB(12, 1.5f, 0.3f, true, false),
+    HEAVY(14, 3.0f, 0.1f, false, false);
+
+    // Circle radius in pixels, and the fixture's density and restitution
+    public final float radius;
+    public final float density;
+    public final float restitution;
+    // Abilities: left click explodes, right click releases a shockwave
+    public final boolean canExplode;
+    public final boolean canShockwave;
+
+    BirdType(float radius, float density, float restitution, boolean canExplode, boolean canShockwave) {
+        this.radius = radius;
+        this.density = density;
+        this.restitution = restitution;
+        this.canExplode = canExplode;
+        this.canShockwave = canShockwave;
+    }
+
+    /** Draw size relative to the red bird, which the sprites are sized for. */
+    public float drawScale() {
+        return radius / RED.radius;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Draws the structural blocks of a level, its pillars and planks, as instances of one quad.
+ * Each block adds nine floats to a buffer: center, size, angle and atlas region. The
+ * corners are rotated in the vertex shader, so the CPU does no per-vertex work, and every
+ * run of blocks sharing a texture goes out in one instanced draw call. Blocks from one
+ * atlas page therefore take a single call, whatever their material.
+ * <p>
+ * Instancing needs GL 3.0. Without it, or when switched off with {@link #setInstancing},
+ * the same calls fall back to {@link Batch#draw} with rotation, as the screens drew before.
+ * Usage, with the batch already begun and set to the pixel projection:
+ * <pre>
+ * blocks.begin(batch);
+ * blocks.draw(region, x, y, width, height, angle);
+ * blocks.end();
+ * </pre>
+ */
+public class BlockRenderer implements Disposable {
+
+    // Per instance: center x, y and size in pixels, angle in radians, region u, v, u2, v2
+    static final int INSTANCE_FLOATS = 9;
+    static final int DEFAULT_MAX_INSTANCES = 16384;
+
+    // Corners of the unit quad, and texture coordinates blended from the region per corner.
+    // Written like SpriteBatch's default shader, so a launcher's GLSL prelude applies here too.
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec2 a_position;\n"
+        + "attribute vec4 a_transform;\n"
+        + "attribute float a_angle;\n"
+        + "attribute vec4 a_region;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    vec2 local = a_position * a_transform.zw;\n"
+        + "    float c = cos(a_angle);\n"
+        + "    float s = sin(a_angle);\n"
+        + "    vec2 world = a_transform.xy + vec2(local.x * c - local.y * s, local.x * s + local.y * c);\n"
+        + "    v_texCoords = vec2(mix(a_region.x, a_region.z, a_position.x + 0.5),\n"
+        + "                       mix(a_region.w, a_region.y, a_position.y + 0.5));\n"
+        + "    gl_Position = u_projTrans * vec4(world, 0.0, 1.0);\n"
+        + "}\n";
+
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "void main() {\n"
+        + "    gl_FragColor = texture2D(u_texture, v_texCoords);\n"
+        + "}\n";
+
+    private final int maxInstances;
+    private final float[] instances;
+    private Mesh mesh;
+    private ShaderProgram shader;
+    private boolean instancing;
+
+    // State between begin() and end()
+    private Batch batch;
+    private Texture texture;
+    private int count = 0;
+    private int drawCalls = 0;
+
+    public BlockRenderer() {
+        this(DEFAULT_MAX_INSTANCES);
+    }
+
+    /** @param maxInstances blocks per draw call; more are split over several calls */
+    public BlockRenderer(int maxInstances) {
+        this.maxInstances = maxInstances;
+        instances = new float[maxInstances * INSTANCE_FLOATS];
+        if (Gdx.gl30 == null) {
+            return;
+        }
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            Gdx.app.error("BlockRenderer", "Instanced shader failed, drawing blocks with the batch: " + shader.getLog());
+            shader.dispose();
+            shader = null;
+            return;
+        }
+        mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Position, 2, "a_position"));
+        mesh.setVertices(new float[] {-0.5f, -0.5f, 0.5f, -0.5f, 0.5f, 0.5f, -0.5f, 0.5f});
+        mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+        mesh.enableInstancedRendering(false, maxInstances,
+            new VertexAttribute(Usage.Generic, 4, "a_transform"),
+            new VertexAttribute(Usage.Generic, 1, "a_angle"),
+            new VertexAttribute(Usage.Generic, 4, "a_region"));
+        instancing = true;
+    }
+
+    /** Whether instanced drawing is available on this GL context at all. */
+    public boolean isInstancingSupported() {
+        return mesh != null;
+    }
+
+    public boolean isInstancing() {
+        return instancing;
+    }
+
+    /** Switches between instanced drawing and the batch fallback, e.g. to compare the two. */
+    public void setInstancing(boolean instancing) {
+        this.instancing = instancing && isInstancingSupported();
+    }
+
+    /**
+     * Starts a run of blocks drawn with the batch's projection. The batch must be drawing;
+     * in instanced mode it is ended here and begun again by {@link #end()}.
+     */
+    public void begin(Batch batch) {
+        this.batch = batch;
+        drawCalls = 0;
+        if (instancing) {
+            batch.end();
+        }
+    }
+
+    /**
+     * Draws a block centered on {@code (x, y)}, rotated by {@code angle} radians about its
+     * center; positions and sizes in the batch's units.
+     */
+    public void draw(TextureRegion region, float x, float y, float width, float height, float angle) {
+        if (!instancing) {
+            batch.draw(region, x - width / 2, y - height / 2, width / 2, height / 2, width, height, 1, 1,
+                angle * MathUtils.radiansToDegrees);
+            return;
+        }
+        if (region.getTexture() != texture || count == maxInstances) {
+            flush();
+            texture = region.getTexture();
+        }
+        int o = count * INSTANCE_FLOATS;
+        instances[o] = x;
+        instances[o + 1] = y;
+        instances[o + 2] = width;
+        instances[o + 3] = height;
+        instances[o + 4] = angle;
+        instances[o + 5] = region.getU();
+        instances[o + 6] = region.getV();
+        instances[o + 7] = region.getU2();
+        instances[o + 8] = region.getV2();
+        count++;
+    }
+
+    /** Draws whatever is pending and hands the batch back, drawing again. */
+    public void end() {
+        if (instancing) {
+            flush();
+            texture = null;
+            batch.begin();
+        }
+        batch = null;
+    }
+
+    private void flush() {
+        if (count == 0) {
+            return;
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(batch.getBlendSrcFunc(), batch.getBlendDstFunc());
+        texture.bind(0);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", batch.getProjectionMatrix());
+        shader.setUniformi("u_texture", 0);
+        mesh.setInstanceData(instances, 0, count * INSTANCE_FLOATS);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+        count = 0;
+        drawCalls++;
+    }
+
+    /** Instanced draw calls issued since the last {@link #begin}; zero in batch mode. */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            shader.dispose();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.ExtendViewport;
+
+/**
+ * Camera of a level screen, in meters. The camera zooms out until the level's bounds fit.
+ * If they are too wide even at {@link #MAX_ZOOM}, it centers on a focus point instead: the
+ * slingshot while aiming and the bird in flight. Moves are eased over a few frames. An
+ * {@link ExtendViewport} keeps at least the 1280x720 area the levels were laid out for
+ * visible at any window size.
+ * <p>
+ * Sprites are drawn in pixels, so {@link #getPixelProjection()} scales the camera for the
+ * batch. {@link #isVisible} tests a body against the visible rectangle, so the sprite pass
+ * can skip bodies that are off screen.
+ */
+public class CameraController {
+
+    // Smallest area shown, in meters
+    static final float MIN_WORLD_WIDTH = 1280 / LevelWorld.PPM;
+    static final float MIN_WORLD_HEIGHT = 720 / LevelWorld.PPM;
+    // Furthest the camera zooms out to fit the level
+    static final float MAX_ZOOM = 3f;
+    // Space kept around the level's bodies, in meters
+    static final float MARGIN = 0.5f;
+    // How fast the camera closes in on its target, per second
+    static final float FOLLOW_RATE = 5f;
+
+    public final OrthographicCamera camera = new OrthographicCamera();
+    private final ExtendViewport viewport = new ExtendViewport(MIN_WORLD_WIDTH, MIN_WORLD_HEIGHT, camera);
+    private final Matrix4 pixelProjection = new Matrix4();
+    private final Matrix4 screenProjection = new Matrix4();
+
+    // Area the camera keeps in view where it can, in meters
+    private float boundsMinX, boundsMinY, boundsMaxX, boundsMaxY;
+
+    // Visible rectangle as of the last update, in meters
+    private float viewLeft, viewBottom, viewRight, viewTop;
+    private boolean snapNext = true;
+
+    public CameraController() {
+        resetBounds();
+    }
+
+    public void resize(int width, int height) {
+        viewport.update(width, height);
+        screenProjection.setToOrtho2D(0, 0, width, height);
+    }
+
+    /** Shrinks the bounds back to the original fixed view; add the level's bodies after. */
+    public void resetBounds() {
+        boundsMinX = 0;
+        boundsMinY = 0;
+        boundsMaxX = MIN_WORLD_WIDTH;
+        boundsMaxY = MIN_WORLD_HEIGHT;
+    }
+
+    /** Grows the bounds to take in a body of the given bounding radius at {@code (x, y)}. */
+    public void addToBounds(float x, float y, float radius) {
+        boundsMinX = Math.min(boundsMinX, x - radius - MARGIN);
+        boundsMinY = Math.min(boundsMinY, y - radius - MARGIN);
+        boundsMaxX = Math.max(boundsMaxX, x + radius + MARGIN);
+        boundsMaxY = Math.max(boundsMaxY, y + radius + MARGIN);
+    }
+
+    /** Makes the next {@link #update} jump to its target, e.g. after a restart. */
+    public void snap() {
+        snapNext = true;
+    }
+
+    /** Eases the camera towards the view of the bounds around {@code (focusX, focusY)}. */
+    public void update(float delta, float focusX, float focusY) {
+        float minX = Math.min(boundsMinX, focusX);
+        float minY = Math.min(boundsMinY, focusY);
+        float maxX = Math.max(boundsMaxX, focusX);
+        float maxY = Math.max(boundsMaxY, focusY);
+
+        float width = viewport.getWorldWidth();
+        float height = viewport.getWorldHeight();
+        float zoom = Math.max(1, Math.min(MAX_ZOOM, Math.max((maxX - minX) / width, (maxY - minY) / height)));
+        float x = center(focusX, minX, maxX, width * zoom / 2);
+        float y = center(focusY, minY, maxY, height * zoom / 2);
+
+        float t = snapNext ? 1 : 1 - (float) Math.exp(-FOLLOW_RATE * delta);
+        snapNext = false;
+        camera.zoom += (zoom - camera.zoom) * t;
+        camera.position.x += (x - camera.position.x) * t;
+        camera.position.y += (y - camera.position.y) * t;
+        camera.update();
+        pixelProjection.set(camera.combined).scale(1 / LevelWorld.PPM, 1 / LevelWorld.PPM, 1);
+
+        float halfWidth = width * camera.zoom / 2;
+        float halfHeight = height * camera.zoom / 2;
+        viewLeft = camera.position.x - halfWidth;
+        viewRight = camera.position.x + halfWidth;
+        viewBottom = camera.position.y - halfHeight;
+        viewTop = camera.position.y + halfHeight;
+    }
+
+    // Centers on the focus but keeps the view inside the bounds, or centers the bounds if they fit
+    private static float center(float focus, float min, float max, float half) {
+        if (max - min <= half * 2) {
+            return (min + max) / 2;
+        }
+        return Math.max(min + half, Math.min(max - half, focus));
+    }
+
+    /** Whether a body of the given bounding radius at {@code (x, y)}, in meters, is on screen. */
+    public boolean isVisible(float x, float y, float radius) {
+        return x + radius >= viewLeft && x - radius <= viewRight && y + radius >= viewBottom && y - radius <= viewTop;
+    }
+
+    /** Turns window coordinates into meters, in place. */
+    public Vector3 unproject(Vector3 point) {
+        return viewport.unproject(point);
+    }
+
+    /** Projection for drawing the level's sprites, which are positioned in pixels. */
+    public Matrix4 getPixelProjection() {
+        return pixelProjection;
+    }
+
+    /** Plain window-pixel projection, for overlays and for the screens that come after. */
+    public Matrix4 getScreenProjection() {
+        return screenProjection;
+    }
+
+    public float getViewLeft() {
+        return viewLeft;
+    }
+
+    public float getViewBottom() {
+        return viewBottom;
+    }
+
+    public float getViewWidth() {
+        return viewRight - viewLeft;
+    }
+
+    public float getViewHeight() {
+        return viewTop - viewBottom;
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A level loaded from a file compiled by {@link LevelCompiler}. The file is memory-mapped
+ * and its fixed-size body records are fed straight into one reused BodyDef and FixtureDef,
+ * so loading does no parsing and allocates nothing per body besides the Box2D objects.
+ * Pillars and pigs are drawn at the screen's usual sizes; the draw size in the file is
+ * used for blocks.
+ */
+public class CompiledLevelWorld extends LevelWorld {
+
+    private final ByteBuffer data;
+    private String path;
+
+    public static CompiledLevelWorld load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CompiledLevelWorld level = new CompiledLevelWorld(mapped);
+            level.path = file.getPath();
+            return level;
+        }
+    }
+
+    public CompiledLevelWorld(ByteBuffer data) {
+        super(checkHeader(data).getFloat(8), data.getFloat(12));
+        this.data = data;
+    }
+
+    /** The file this level was loaded from, which {@link ShotReplayer} loads again. */
+    @Override
+    public String getId() {
+        return path != null ? path : super.getId();
+    }
+
+    private static ByteBuffer checkHeader(ByteBuffer data) {
+        data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.limit() < LevelFormat.HEADER_SIZE || data.getInt(0) != LevelFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a compiled level file");
+        }
+        if (data.getShort(4) != LevelFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported level file version " + data.getShort(4));
+        }
+        return data;
+    }
+
+    @Override
+    protected void createBodies() {
+        int regionCount = data.getShort(6);
+        int bodyCount = data.getInt(16);
+
+        String[] regions = new String[regionCount];
+        int offset = LevelFormat.HEADER_SIZE;
+        for (int i = 0; i < regionCount; i++) {
+            int length = data.getShort(offset);
+            byte[] bytes = new byte[length];
+            for (int b = 0; b < length; b++) {
+                bytes[b] = data.get(offset + 2 + b);
+            }
+            regions[i] = new String(bytes, StandardCharsets.UTF_8);
+            offset += 2 + length;
+        }
+
+        BodyDef bodyDef = new BodyDef();
+        FixtureDef fixtureDef = new FixtureDef();
+        PolygonShape box = new PolygonShape();
+        CircleShape circle = new CircleShape();
+
+        for (int i = 0; i < bodyCount; i++, offset += LevelFormat.BODY_SIZE) {
+            byte role = data.get(offset + 1);
+            boolean isCircle = data.get(offset + 2) == LevelFormat.SHAPE_CIRCLE;
+            int region = data.get(offset + 3) & 0xFF;
+
+            bodyDef.type = BodyDef.BodyType.values()[data.get(offset)];
+            bodyDef.position.set(data.getFloat(offset + 4), data.getFloat(offset + 8));
+            bodyDef.angle = data.getFloat(offset + 12);
+
+            if (isCircle) {
+                circle.setRadius(data.getFloat(offset + 16));
+                fixtureDef.shape = circle;
+            } else {
+                box.setAsBox(data.getFloat(offset + 16), data.getFloat(offset + 20));
+                fixtureDef.shape = box;
+            }
+            fixtureDef.density = data.getFloat(offset + 24);
+            fixtureDef.friction = data.getFloat(offset + 28);
+            fixtureDef.restitution = data.getFloat(offset + 32);
+            fixtureDef.filter.categoryBits = data.getShort(offset + 36);
+            fixtureDef.filter.maskBits = data.getShort(offset + 38);
+
+            Body body = world.createBody(bodyDef);
+            body.createFixture(fixtureDef);
+
+            switch (role) {
+                case LevelFormat.ROLE_PLATFORM:
+                    platformBody = body;
+                    break;
+                case LevelFormat.ROLE_GROUND:
+                    groundBody = body;
+                    break;
+                case LevelFormat.ROLE_BIRD:
+                    birdBody = body;
+                    slingshotBase = new Vector2(bodyDef.position);
+                    break;
+                case LevelFormat.ROLE_PILLAR:
+                    pillarBodies.add(body);
+                    break;
+                case LevelFormat.ROLE_PIG:
+                    body.setUserData(new Pig());
+                    pigBodies.add(body);
+                    break;
+                case LevelFormat.ROLE_BLOCK:
+                    addBlock(body, region == LevelFormat.NO_REGION ? null : regions[region],
+                        data.getFloat(offset + 40), data.getFloat(offset + 44));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        box.dispose();
+        circle.dispose();
+
+        if (birdBody == null || platformBody == null || groundBody == null) {
+            throw new IllegalStateException("A level needs a platform, a ground and a bird");
+        }
+    }
+
+    @Override
+    protected void createStructure() {
+        // Everything comes from the level file in build()
+    }
+}
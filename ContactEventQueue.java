@@ -0,0 +1,128 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Fixed-size ring of contact records, filled by the world's contact callbacks during a
+ * step and drained once the step is over. A record is a type, the two bodies and an
+ * impulse, kept in parallel arrays allocated up front, so pushing allocates nothing and
+ * never touches the world. Game logic that reacts to contacts runs from {@link #drain},
+ * where changing bodies is allowed.
+ * <p>
+ * One thread may push while another drains: each index is written by one side only and
+ * published through a volatile store. When the ring is full, records are dropped and
+ * counted, and the next drain reports an {@link #OVERFLOW} first, so the consumer can
+ * re-examine everything instead.
+ */
+public class ContactEventQueue {
+
+    /** Receives the drained records in the order they were pushed. */
+    public interface Handler {
+        void onContact(byte type, Body bodyA, Body bodyB, float impulse);
+    }
+
+    // Record types
+    public static final byte BEGIN = 1;    // fixtures started touching
+    public static final byte END = 2;      // fixtures stopped touching
+    public static final byte IMPULSE = 3;  // summed normal impulse the solver applied this step
+    public static final byte OVERFLOW = 4; // records were dropped since the last drain; bodies are null
+
+    static final int DEFAULT_CAPACITY = 1 << 15;
+
+    private final int mask;
+    private final byte[] types;
+    private final Body[] bodiesA;
+    private final Body[] bodiesB;
+    private final float[] impulses;
+
+    // Next slot to write, advanced only by the producer, and next slot to read, only by the consumer
+    private volatile long writeIndex = 0;
+    private volatile long readIndex = 0;
+    private volatile long dropped = 0;
+    private long droppedReported = 0;
+
+    public ContactEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity records the ring holds; rounded up to a power of two */
+    public ContactEventQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mask = size - 1;
+        types = new byte[size];
+        bodiesA = new Body[size];
+        bodiesB = new Body[size];
+        impulses = new float[size];
+    }
+
+    /**
+     * Appends a record; producer side only.
+     *
+     * @return false if the ring was full and the record was dropped
+     */
+    public boolean push(byte type, Body bodyA, Body bodyB, float impulse) {
+        long write = writeIndex;
+        if (write - readIndex > mask) {
+            dropped = dropped + 1;
+            return false;
+        }
+        int i = (int) write & mask;
+        types[i] = type;
+        bodiesA[i] = bodyA;
+        bodiesB[i] = bodyB;
+        impulses[i] = impulse;
+        // Publishes the record to the consumer
+        writeIndex = write + 1;
+        return true;
+    }
+
+    /**
+     * Hands every record pushed so far to the handler and frees its slot; consumer side only.
+     *
+     * @return the number of records drained
+     */
+    public int drain(Handler handler) {
+        long droppedNow = dropped;
+        if (droppedNow != droppedReported) {
+            droppedReported = droppedNow;
+            handler.onContact(OVERFLOW, null, null, 0);
+        }
+        long read = readIndex;
+        long write = writeIndex;
+        for (long r = read; r < write; r++) {
+            int i = (int) r & mask;
+            Body bodyA = bodiesA[i];
+            Body bodyB = bodiesB[i];
+            bodiesA[i] = null;
+            bodiesB[i] = null;
+            handler.onContact(types[i], bodyA, bodyB, impulses[i]);
+        }
+        readIndex = write;
+        return (int) (write - read);
+    }
+
+    /** Throws away every pending record, e.g. when the level restarts; consumer side only. */
+    public void clear() {
+        long write = writeIndex;
+        for (long r = readIndex; r < write; r++) {
+            int i = (int) r & mask;
+            bodiesA[i] = null;
+            bodiesB[i] = null;
+        }
+        readIndex = write;
+        droppedReported = dropped;
+    }
+
+    public int size() {
+        return (int) (writeIndex - readIndex);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** Records dropped because the ring was full, since it was created. */
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import java.util.Arrays;
+
+/**
+ * Turns contact impulses into damage on {@link Destructible} bodies.
+ * The solver's normal impulses reach it through the level's {@link ContactEventQueue} once
+ * a step is over, and {@link #addImpulse} only sums them into a float array. Then
+ * {@link #afterStep()} reports each touched body to the level's
+ * {@link LevelWorld.PushListener}, charges it the impulse above its material's threshold
+ * and queues dead bodies; the queue is then destroyed in a batch of at most
+ * {@link #MAX_DESTROYED_PER_STEP}, so a large collapse is spread over a few steps instead of
+ * stalling one. Bodies are never destroyed inside a world callback.
+ * <p>
+ * A body only takes damage once it is armed: asleep, or slower than {@link #REST_SPEED}
+ * for {@link #REST_STEPS} steps in a row, at least once since it was spawned. Overlapping
+ * spawns, the drop onto the ground and the jolts of a structure settling under its own
+ * weight therefore cost no health. The impulse an unarmed body takes in its last touched
+ * step is its resting load, e.g. the storeys it carries, and only impulse above that load
+ * counts against the threshold. Unarmed bodies are checked after every step until they
+ * are all armed.
+ */
+public class DamageModel {
+
+    /** Called for each body just before it is removed from the world. */
+    public interface DestructionListener {
+        void onDestroyed(Body body, Destructible data);
+    }
+
+    static final int MAX_DESTROYED_PER_STEP = 16;
+
+    // A body this slow, in m/s and rad/s, for this many steps in a row counts as at rest
+    static final float REST_SPEED = 0.05f;
+    static final int REST_STEPS = 10;
+
+    private final LevelWorld level;
+    private DestructionListener listener;
+
+    // Impulse summed per damage slot during the current step, and the bodies that got any
+    private float[] impulses = new float[16];
+    private Body[] touched = new Body[16];
+    private int touchedCount = 0;
+    private int slotCount = 0;
+
+    // Bodies that have not been at rest since they were spawned, in no particular order
+    private Body[] unarmed = new Body[16];
+    private int unarmedCount = 0;
+
+    // Dead bodies waiting to be destroyed, oldest first
+    private Body[] doomed = new Body[16];
+    private int doomedHead = 0;
+    private int doomedCount = 0;
+
+    private int destroyedCount = 0;
+
+    DamageModel(LevelWorld level) {
+        this.level = level;
+    }
+
+    public void setListener(DestructionListener listener) {
+        this.listener = listener;
+    }
+
+    /** Gives a freshly spawned destructible body its slot in the impulse array and disarms it. */
+    void register(Body body) {
+        Destructible data = (Destructible) body.getUserData();
+        if (data.slot < 0) {
+            if (slotCount == impulses.length) {
+                impulses = Arrays.copyOf(impulses, slotCount * 2);
+            }
+            data.slot = slotCount++;
+        }
+        data.armed = false;
+        data.restSteps = 0;
+        data.restImpulse = 0;
+        if (unarmedCount == unarmed.length) {
+            unarmed = Arrays.copyOf(unarmed, unarmedCount * 2);
+        }
+        unarmed[unarmedCount++] = body;
+    }
+
+    /** Adds a contact's summed normal impulse to both of its bodies. */
+    public void addImpulse(Body bodyA, Body bodyB, float impulse) {
+        charge(bodyA, impulse);
+        charge(bodyB, impulse);
+    }
+
+    private void charge(Body body, float impulse) {
+        Object userData = body.getUserData();
+        if (!(userData instanceof Destructible)) {
+            return;
+        }
+        Destructible data = (Destructible) userData;
+        int slot = data.slot;
+        // A contact that pushed nothing, e.g. two bodies just within reach, must not list the
+        // body as touched a second time
+        if (slot < 0 || impulse <= 0) {
+            return;
+        }
+        if (impulses[slot] == 0) {
+            if (touchedCount == touched.length) {
+                touched = Arrays.copyOf(touched, touchedCount * 2);
+            }
+            touched[touchedCount++] = body;
+        }
+        impulses[slot] += impulse;
+    }
+
+    /**
+     * Applies the step's damage, arms the bodies that have come to rest, then destroys a batch
+     * of dead bodies. Call after each world step.
+     */
+    public void afterStep() {
+        for (int i = 0; i < touchedCount; i++) {
+            Body body = touched[i];
+            touched[i] = null;
+            Destructible data = (Destructible) body.getUserData();
+            float impulse = impulses[data.slot];
+            impulses[data.slot] = 0;
+            // The body may have been woken without a contact of its own starting or ending
+            level.onPushed(body);
+            if (!data.armed) {
+                data.restImpulse = impulse;
+                continue;
+            }
+            float excess = impulse - data.restImpulse - data.material.damageThreshold;
+            if (excess > 0 && !data.isDead()) {
+                data.health -= excess;
+                if (data.isDead()) {
+                    enqueue(body);
+                }
+            }
+        }
+        touchedCount = 0;
+        armResting();
+
+        for (int i = 0; i < MAX_DESTROYED_PER_STEP && doomedCount > 0; i++) {
+            Body body = doomed[doomedHead];
+            doomed[doomedHead] = null;
+            doomedHead = (doomedHead + 1) % doomed.length;
+            doomedCount--;
+
+            if (listener != null) {
+                listener.onDestroyed(body, (Destructible) body.getUserData());
+            }
+            level.destroyBody(body);
+            destroyedCount++;
+        }
+    }
+
+    private void armResting() {
+        int i = 0;
+        while (i < unarmedCount) {
+            Body body = unarmed[i];
+            Destructible data = (Destructible) body.getUserData();
+            Vector2 velocity = body.getLinearVelocity();
+            boolean slow = velocity.len2() < REST_SPEED * REST_SPEED
+                && Math.abs(body.getAngularVelocity()) < REST_SPEED;
+            data.restSteps = slow ? data.restSteps + 1 : 0;
+            if (!body.isAwake() || data.restSteps >= REST_STEPS) {
+                data.armed = true;
+                unarmed[i] = unarmed[--unarmedCount];
+                unarmed[unarmedCount] = null;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Drops a body that is about to leave the world from the bodies waiting to be armed or
+     * destroyed, since libGDX hands its Body object to the next body created.
+     */
+    void forget(Body body) {
+        for (int i = 0; i < unarmedCount; i++) {
+            if (unarmed[i] == body) {
+                unarmed[i] = unarmed[--unarmedCount];
+                unarmed[unarmedCount] = null;
+                break;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < doomedCount; i++) {
+            Body queued = doomed[(doomedHead + i) % doomed.length];
+            if (queued != body) {
+                doomed[(doomedHead + kept++) % doomed.length] = queued;
+            }
+        }
+        for (int i = kept; i < doomedCount; i++) {
+            doomed[(doomedHead + i) % doomed.length] = null;
+        }
+        doomedCount = kept;
+    }
+
+    private void enqueue(Body body) {
+        if (doomedCount == doomed.length) {
+            Body[] grown = new Body[doomed.length * 2];
+            for (int i = 0; i < doomedCount; i++) {
+                grown[i] = doomed[(doomedHead + i) % doomed.length];
+            }
+            doomed = grown;
+            doomedHead = 0;
+        }
+        doomed[(doomedHead + doomedCount) % doomed.length] = body;
+        doomedCount++;
+    }
+
+    /**
+     * Forgets pending impulses, queued bodies and bodies waiting to be armed, e.g. when the
+     * level restarts; its bodies are then registered again.
+     */
+    void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            touched[i] = null;
+        }
+        Arrays.fill(impulses, 0);
+        touchedCount = 0;
+        Arrays.fill(doomed, null);
+        doomedHead = 0;
+        doomedCount = 0;
+        Arrays.fill(unarmed, null);
+        unarmedCount = 0;
+    }
+
+    /** Bodies that have not come to rest since they were spawned and so take no damage yet. */
+    public int getUnarmedCount() {
+        return unarmedCount;
+    }
+
+    public int getQueuedCount() {
+        return doomedCount;
+    }
+
+    public int getDestroyedCount() {
+        return destroyedCount;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.some_example_name;
+
+/**
+ * Body user data for anything that can be broken: its material and remaining health, plus
+ * the bookkeeping {@link LevelWorld} and {@link DamageModel} need to find it in O(1).
+ */
+public abstract class Destructible {
+
+    public final Material material;
+    public float health;
+
+    // Position in the level's pig or pillar list, and slot in the damage model's arrays
+    int index = -1;
+    int slot = -1;
+
+    // Whether the body has come to rest since it was spawned; until then it takes no damage.
+    // The impulse per step it took while at rest, the weight it carries, is not damage either.
+    boolean armed = false;
+    int restSteps = 0;
+    float restImpulse = 0;
+
+    protected Destructible(Material material) {
+        this.material = material;
+        this.health = material.maxHealth;
+    }
+
+    public boolean isDead() {
+        return health <= 0;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Disposable;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured game log that never blocks or allocates on the posting thread.
+ * {@link #post} writes the event type, its arguments and a timestamp into preallocated
+ * primitive arrays of a ring buffer; a daemon thread formats and prints them. When the
+ * ring is full the event is dropped and counted instead of waiting for the writer.
+ * Posting is lock-free and safe from several threads.
+ */
+public class EventLog implements Disposable {
+
+    public enum Level { DEBUG, INFO, WARN }
+
+    private static final GameEvent[] EVENTS = GameEvent.values();
+
+    private final int mask;
+    private final PrintStream out;
+    private final Thread writer;
+
+    // Ring buffer, one slot per event
+    private final long[] times;
+    private final int[] types;
+    private final int[] intArgs;
+    private final float[] floatArgsA;
+    private final float[] floatArgsB;
+    private final AtomicLongArray published;
+
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail = 0;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written = 0;
+
+    private volatile Level minLevel;
+    private volatile boolean running = true;
+    private final long startTime = System.nanoTime();
+
+    /** @param capacity ring size, rounded up to a power of two */
+    public EventLog(int capacity, Level minLevel, PrintStream out) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.minLevel = minLevel;
+        this.out = out;
+
+        times = new long[size];
+        types = new int[size];
+        intArgs = new int[size];
+        floatArgsA = new float[size];
+        floatArgsB = new float[size];
+        published = new AtomicLongArray(size);
+
+        writer = new Thread(this::drainLoop, "event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= minLevel.ordinal();
+    }
+
+    public void setMinLevel(Level minLevel) {
+        this.minLevel = minLevel;
+    }
+
+    public void post(GameEvent event) {
+        post(event, 0, 0, 0);
+    }
+
+    public void post(GameEvent event, int intArg, float floatArgA, float floatArgB) {
+        if (!isEnabled(event.level)) {
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail > mask) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        times[slot] = System.nanoTime();
+        types[slot] = event.ordinal();
+        intArgs[slot] = intArg;
+        floatArgsA[slot] = floatArgA;
+        floatArgsB[slot] = floatArgB;
+        // Publishing the slot makes the writes above visible to the writer thread
+        published.lazySet(slot, sequence + 1);
+    }
+
+    private void drainLoop() {
+        long next = tail;
+        while (running || next < head.get()) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) == next + 1) {
+                GameEvent event = EVENTS[types[slot]];
+                double seconds = (times[slot] - startTime) / 1e9;
+                String message = String.format(event.message, intArgs[slot], floatArgsA[slot], floatArgsB[slot]);
+                out.printf("[%10.4f] %-5s %s%n", seconds, event.level, message);
+                next++;
+                tail = next;
+                written = next;
+            } else {
+                out.flush();
+                LockSupport.parkNanos(1_000_000);
+            }
+        }
+        out.flush();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    @Override
+    public void dispose() {
+        running = false;
+        try {
+            writer.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.println("EventLog: " + getWrittenCount() + " events written, " + getDroppedCount() + " dropped");
+        out.flush();
+    }
+}
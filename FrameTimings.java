@@ -0,0 +1,108 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import java.io.*;
+
+/**
+ * Where the frame time of the level screens goes. Each phase of render() is timed with
+ * {@link #lap} into its own {@link LatencyHistogram}. The overlay shows p50/p99/max per
+ * phase and can be toggled in game; {@link #write} dumps the whole session as CSV and JSON.
+ */
+public class FrameTimings {
+
+    public enum Phase { CAMERA, PHYSICS, DEBUG_RENDER, INPUT, WIN_CHECK, DRAW, FRAME }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    // How often the overlay text is rebuilt, in frames
+    private static final int OVERLAY_REFRESH_FRAMES = 15;
+    // Frames until the draw counts arrive once the overlay is shown: the GL profiler is
+    // switched on at the end of the frame that shows it, and counts a whole frame after that
+    private static final int PROFILER_DELAY_FRAMES = 2;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+
+    // Overlay state
+    private boolean overlayVisible = false;
+    private BitmapFont font;
+    private final StringBuilder overlayText = new StringBuilder();
+    private int framesSinceRefresh = OVERLAY_REFRESH_FRAMES;
+
+    public FrameTimings() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /** Records the time since {@code start} for {@code phase} and returns the current time for the next lap. */
+    public long lap(Phase phase, long start) {
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - start);
+        return now;
+    }
+
+    public LatencyHistogram get(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        framesSinceRefresh = OVERLAY_REFRESH_FRAMES - 1 - PROFILER_DELAY_FRAMES;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /** Draws the overlay in screen pixels; the batch must be between begin() and end(). */
+    public void drawOverlay(Batch batch, int renderCalls, int textureBindings) {
+        if (!overlayVisible) {
+            return;
+        }
+        if (font == null) {
+            font = new BitmapFont();
+        }
+        if (++framesSinceRefresh >= OVERLAY_REFRESH_FRAMES) {
+            framesSinceRefresh = 0;
+            overlayText.setLength(0);
+            overlayText.append("phase         p50 ms   p99 ms   max ms\n");
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = get(phase);
+                overlayText.append(String.format("%-12s %7.3f  %7.3f  %7.3f\n", phase,
+                    histogram.percentile(50) / 1e6, histogram.percentile(99) / 1e6, histogram.getMax() / 1e6));
+            }
+            overlayText.append("draw calls ").append(renderCalls).append(", texture binds ").append(textureBindings);
+        }
+        font.draw(batch, overlayText, 10, Gdx.graphics.getHeight() - 10);
+    }
+
+    /** Writes the session's histograms to {@code <basePath>.csv} and {@code <basePath>.json}. */
+    public void write(String basePath) throws IOException {
+        try (PrintWriter csv = new PrintWriter(new FileWriter(basePath + ".csv"))) {
+            csv.println("phase,count,mean_ns,p50_ns,p90_ns,p99_ns,p999_ns,max_ns");
+            for (Phase phase : PHASES) {
+                LatencyHistogram h = get(phase);
+                csv.printf("%s,%d,%.0f,%d,%d,%d,%d,%d%n", phase, h.getCount(), h.getMean(),
+                    h.percentile(50), h.percentile(90), h.percentile(99), h.percentile(99.9), h.getMax());
+            }
+        }
+        try (PrintWriter json = new PrintWriter(new FileWriter(basePath + ".json"))) {
+            json.println("{");
+            for (int i = 0; i < PHASES.length; i++) {
+                LatencyHistogram h = get(PHASES[i]);
+                json.printf("  \"%s\": {\"count\": %d, \"meanNs\": %.0f, \"p50Ns\": %d, \"p90Ns\": %d, \"p99Ns\": %d, \"p999Ns\": %d, \"maxNs\": %d}%s%n",
+                    PHASES[i], h.getCount(), h.getMean(), h.percentile(50), h.percentile(90),
+                    h.percentile(99), h.percentile(99.9), h.getMax(), i < PHASES.length - 1 ? "," : "");
+            }
+            json.println("}");
+        }
+    }
+
+    public void dispose() {
+        if (font != null) {
+            font.dispose();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.some_example_name;
+
+/**
+ * Typed events written to the {@link EventLog}. Each event carries up to one int and two
+ * float arguments, which the log thread formats into the message with {@link String#format}.
+ */
+public enum GameEvent {
+    LEVEL_CREATING(EventLog.Level.INFO, "Creating game assets..."),
+    LEVEL_CREATED(EventLog.Level.INFO, "Assets created successfully."),
+    BIRD_LAUNCHED(EventLog.Level.INFO, "Bird launched with impulse (%2$.3f, %3$.3f)"),
+    BIRD_EXPLODED(EventLog.Level.INFO, "Bird exploded, pushing %1$d bodies"),
+    SHOCKWAVE_RELEASED(EventLog.Level.INFO, "Shockwave released at (%2$.2f, %3$.2f)"),
+    PIG_DESTROYED(EventLog.Level.INFO, "A pig was destroyed."),
+    PILLAR_DESTROYED(EventLog.Level.INFO, "A pillar was destroyed."),
+    BIRD_HIT_GROUND(EventLog.Level.INFO, "Bird has hit the ground."),
+    NEXT_BIRD(EventLog.Level.INFO, "Next bird on the slingshot, %1$d more waiting"),
+    PIG_PUSHED(EventLog.Level.DEBUG, "Force applied to pig upon collision with pillar."),
+    SHOT_SETTLED(EventLog.Level.INFO, "Shot settled after %1$d steps (kinetic energy %2$.5f J)"),
+    SHOT_RECORDED(EventLog.Level.INFO, "Shot recorded with %1$d inputs"),
+    LEVEL_COMPLETE(EventLog.Level.INFO, "Transitioning to LevelCompleteScreen"),
+    GAME_OVER(EventLog.Level.INFO, "Transitioning to GameOverScreen"),
+    NEXT_LEVEL_READY(EventLog.Level.INFO, "Next level preloaded over %1$d frames in %2$.1f ms"),
+    NEXT_LEVEL_SWITCH(EventLog.Level.INFO, "Switched to the next level in %2$.3f ms (%1$d assets still loading)");
+
+    final EventLog.Level level;
+    final String message;
+
+    GameEvent(EventLog.Level level, String message) {
+        this.level = level;
+        this.message = message;
+    }
+}
@@ -8,19 +8,22 @@ import com.badlogic.gdx.utils.ScreenUtils;
 public class GameOverScreen implements Screen {
 
     private final MainGame game;
+    private final LevelScreen levelScreen;
     private OrthographicCamera camera;
     private SpriteBatch batch;
     private BitmapFont font;
     private Texture backgroundTexture;
 
 
-    public GameOverScreen(MainGame game) {
+    /** Shown when {@code levelScreen} is lost; a touch restarts that same level. */
+    public GameOverScreen(MainGame game, LevelScreen levelScreen) {
         this.game = game;
+        this.levelScreen = levelScreen;
         camera = new OrthographicCamera();
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch = new SpriteBatch();
+        batch = game.batch;
         font = new BitmapFont();
-        backgroundTexture = new Texture("game over.png");
+        backgroundTexture = game.assets.acquire(AssetCache.GAME_OVER_BACKGROUND);
     }
 
     @Override
@@ -44,7 +47,8 @@ public class GameOverScreen implements Screen {
         batch.end();
 
         if (Gdx.input.isTouched()) {
-            game.setScreen(new GameScreen(game)); // Replace this with your GameScreen class
+            levelScreen.restart();
+            game.setScreen(levelScreen);
             dispose();
         }
     }
@@ -63,7 +67,7 @@ public class GameOverScreen implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
         font.dispose();
+        game.assets.release(AssetCache.GAME_OVER_BACKGROUND);
     }
 }
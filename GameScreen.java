@@ -6,101 +6,225 @@ import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.math.*;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.ScreenUtils;
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-;
-public class GameScreen implements Screen {
+public class GameScreen implements LevelScreen {
 
     // Physics World and Renderer
+    private final LevelWorld level;
     public World world;
-    private Box2DDebugRenderer debugRenderer;
+    private PhysicsDebugOverlay debugOverlay;
 
-    // Camera
+    // Camera, moved by the controller, and the bounding radii in meters used to cull sprites
+    private CameraController cameraController;
     private OrthographicCamera camera;
+    private float pillarCullRadius;
+    private float pigCullRadius;
+    private float[] blockCullRadii;
+    // Draw width and height of each block in pixels, resolved once from the level's sizes
+    private float[] blockDrawSizes;
 
     // Pixels per meter
-    static final float PPM = 100;
-
-    // Textures
-    private Texture birdTexture;
-    private Texture pillarTexture;
-    private Texture pigTexture;
-    private Texture platformTexture;
+    static final float PPM = LevelWorld.PPM;
+
+    // Sprite regions from the shared atlas, plus the background drawn on its own
+    private TextureRegion birdRegion;
+    private TextureRegion pillarRegion;
+    private TextureRegion pigRegion;
+    private TextureRegion platformRegion;
+    private TextureRegion[] blockRegions;
     private Texture backgroundTexture;
 
-    // Batch for rendering
+    // Batch for rendering, shared with the rest of the game, and the instanced path for blocks
     private Batch batch;
+    private BlockRenderer blocks;
 
     // Image scaling factor
-    private static final float SCALE = 0.1f;   // Scale down to 10% of the original size
+    static final float SCALE = 0.1f;   // Scale down to 10% of the original size
+
+    // Draw sizes of the bird and pig in pixels, SCALE of their source images
+    private float birdWidth, birdHeight;
+    private float pigWidth, pigHeight;
 
     // Slingshot and bird-related variables
     private Body birdBody;
-    private Vector2 slingshotBase;
     private Body groundBody; // Will be set after platform creation
     private boolean isDragging = false;
-    private Vector2 dragPosition = new Vector2();
-    private boolean isBirdLanded = false;
-    private static final int COLLISION_CHECK_THRESHOLD = 150;
+    private final Vector3 touchPoint = new Vector3();
+
+    // Bird on the slingshot or in the air, swapped for the next pooled bird after each shot
+    private List<Body> birdSlot;
+    private static final float WAITING_BIRD_SPACING = 30;
+
+    // Special ability of the launched bird, usable once per shot. Both are set on the render
+    // thread as the input is posted and cleared on the physics side when the next shot starts
+    private volatile boolean birdLaunched = false;
+    private volatile boolean abilityUsed = false;
+    // Whether a launch has reached the world, so the physics side may end the shot once settled
+    private boolean shotInProgress = false;
+
+    // Latest drag point and limits from the render thread, applied on the physics side
+    private volatile float dragX, dragY, dragMaxX, dragMaxY;
+    private final AtomicBoolean dragPosted = new AtomicBoolean();
+
+    // Commands posted to the physics side, created once so that posting allocates nothing
+    private final Runnable dragCommand = this::applyDrag;
+    private final Runnable launchCommand = this::applyLaunch;
+    private final Runnable explodeCommand = this::applyExplode;
+    private final Runnable shockwaveCommand = this::applyShockwave;
+    private final Runnable platformCommand = this::applyPlatformToggle;
+
+    // Aim preview shown while dragging, drawn as dots of this size in pixels
+    private TrajectoryPreview trajectory;
+    private static final float TRAJECTORY_DOT_SIZE = 6;
+    private static final float TRAJECTORY_IMPACT_SIZE = 12;
+
+    // Inputs of this level since it was built, written out whenever a shot ends
+    private ShotRecording recording;
+    // Copy of the recording as a shot ended, written to disk by the render thread
+    private final AtomicReference<ShotRecording> finishedRecording = new AtomicReference<>();
+    private static final String REPLAY_DIR = "replays";
+
+    // Steps run per frame while a finished shot is fast-forwarded
+    private static final int RESOLVE_STEPS_PER_FRAME = 8;
 
     // List of bodies
-    public List<Body> pigBodies = new ArrayList<>();
-    public List<Body> pillarBodies = new ArrayList<>();
-
-    private CollisionListener collisionListener;
-
-    // Platform variables
+    public List<Body> pigBodies;
+    public List<Body> pillarBodies;
+
+    private ObjectiveTracker objectives;
+    private FrameTimings timings;
+
+    // Fixed-timestep physics and the interpolated transforms used for drawing
+    private PhysicsClock physicsClock;
+    private PhysicsClock.InterpolatedBodies birdTransform;
+    private PhysicsClock.InterpolatedBodies pillarTransforms;
+    private PhysicsClock.InterpolatedBodies pigTransforms;
+    private PhysicsClock.InterpolatedBodies blockTransforms;
+    // Steps the clock on its own thread where there are cores to spare
+    private PhysicsThread physics;
+
+    // Platform variables; the platform is static, so its position is read once
     private Body platformBody;
-    private float platformWidth = 0.1f;
-    private float platformHeight = 2.0f;
+    private float platformX, platformY;
+    private float platformWidth = LevelWorld.PLATFORM_WIDTH;
+    private float platformHeight = LevelWorld.PLATFORM_HEIGHT;
     private boolean isPlatformVisible = true;
 
     private final MainGame game;
     private boolean shouldCheckGameOver = false;
     private boolean collisionOccurred = false;
-    private boolean birdHitGround = false;
-    private int noCollisionFrames = 0;
+    private volatile boolean birdHitGround = false;
+
+    // Ends the shot once the physics is at rest, optionally fast-forwarding to that point
+    private SettleDetector settle;
+    private boolean resolveMode = false;
+    // Outcome of a settled shot, decided on the physics side and acted on by the render thread
+    private volatile boolean levelWon = false;
+    private volatile boolean levelLost = false;
 
     public GameScreen(MainGame game) {
+        this(game, new LevelOneWorld());
+    }
+
+    /** Plays any level world, e.g. a {@link CompiledLevelWorld} loaded from a level file. */
+    public GameScreen(MainGame game, LevelWorld level) {
         this.game = game;
+        this.level = level;
         create();
     }
 
     @Override
     public void show() {
-        // Initialization if needed
+        physics.resume();
     }
 
     public void create() {
         try {
-            System.out.println("Creating game assets...");
+            game.log.post(GameEvent.LEVEL_CREATING);
 
             // Initialize physics and camera
-            Box2D.init();
-            world = new World(new Vector2(0, -7f), true);
-            collisionListener = new CollisionListener();
-            world.setContactListener(collisionListener);
-            debugRenderer = new Box2DDebugRenderer();
-            camera = new OrthographicCamera();
-            camera.setToOrtho(false, Gdx.graphics.getWidth() / PPM, Gdx.graphics.getHeight() / PPM);
+            level.build();
+            world = level.world;
+            platformBody = level.platformBody;
+            platformX = platformBody.getPosition().x;
+            platformY = platformBody.getPosition().y;
+            groundBody = level.groundBody;
+            birdBody = level.birdBody;
+            pigBodies = level.pigBodies;
+            pillarBodies = level.pillarBodies;
+            objectives = new ObjectiveTracker(pillarBodies, pigBodies);
+            timings = game.timings;
+            level.setContactHandler(this::onContact);
+            level.setPushListener(this::onBodyPushed);
+            debugOverlay = game.debugOverlay;
+            cameraController = new CameraController();
+            camera = cameraController.camera;
+            cameraController.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
             // Initialize batch
-            batch = new SpriteBatch();
-
-            // Initialize textures
-            birdTexture = new Texture(Gdx.files.internal("Red_png.png"));
-            pillarTexture = new Texture(Gdx.files.internal("Toons_Wood_Block.png"));
-            pigTexture = new Texture(Gdx.files.internal("Pig_29 (1).png"));
-            platformTexture = new Texture(Gdx.files.internal("Slingshot_Classic.png"));
-            backgroundTexture = new Texture(Gdx.files.internal("seamless-game-nature-landscape-parallax-background-2d-game-outdoor-mountains-trees-clouds-illustrations_80590-7362.jpg"));
-
-            createPlatform();
-            createGround();
-            initializeBird();
-            createPillars();
-            createPigs();
-
-            System.out.println("Assets created successfully.");
+            batch = game.batch;
+            blocks = game.blocks;
+
+            // Initialize sprites from the shared cache
+            TextureAtlas sprites = game.assets.acquireAtlas(AssetCache.SPRITE_ATLAS);
+            birdRegion = sprites.findRegion(AssetCache.REGION_BIRD);
+            pillarRegion = sprites.findRegion(AssetCache.REGION_PILLAR);
+            pigRegion = sprites.findRegion(AssetCache.REGION_PIG);
+            platformRegion = sprites.findRegion(AssetCache.REGION_SLINGSHOT);
+            blockRegions = new TextureRegion[level.blockBodies.size()];
+            for (int i = 0; i < blockRegions.length; i++) {
+                String region = level.blockRegion(i);
+                blockRegions[i] = sprites.findRegion(region != null ? region : AssetCache.REGION_PLANK);
+            }
+            backgroundTexture = game.assets.acquire(AssetCache.LEVEL_BACKGROUND);
+
+            physicsClock = new PhysicsClock(world, 5);
+            physicsClock.addStepListener(level::afterStep);
+            recording = new ShotRecording(level.getId());
+            trajectory = new TrajectoryPreview(level);
+            settle = new SettleDetector(level);
+            physicsClock.addStepListener(settle::update);
+            physicsClock.addStepListener(this::afterStep);
+            level.damage.setListener(this::onBodyDestroyed);
+            birdSlot = Arrays.asList(birdBody);
+            birdTransform = physicsClock.track(birdSlot);
+            pillarTransforms = physicsClock.track(pillarBodies);
+            pigTransforms = physicsClock.track(pigBodies);
+            blockTransforms = physicsClock.track(level.blockBodies);
+
+            pillarCullRadius = (float) Math.hypot(20, 178) / 2 / PPM;
+            blockCullRadii = new float[blockRegions.length];
+            blockDrawSizes = new float[blockRegions.length * 2];
+            for (int i = 0; i < blockRegions.length; i++) {
+                float width = level.blockDrawWidth(i);
+                float height = level.blockDrawHeight(i);
+                if (width < 0) {
+                    // Negative sizes are a scale of the source image
+                    width = -width * AssetCache.sourceWidth(blockRegions[i]);
+                    height = -height * AssetCache.sourceHeight(blockRegions[i]);
+                }
+                blockDrawSizes[i * 2] = width;
+                blockDrawSizes[i * 2 + 1] = height;
+                blockCullRadii[i] = (float) Math.hypot(width, height) / 2 / PPM;
+            }
+            birdWidth = AssetCache.sourceWidth(birdRegion) * SCALE;
+            birdHeight = AssetCache.sourceHeight(birdRegion) * SCALE;
+            pigWidth = AssetCache.sourceWidth(pigRegion) * SCALE;
+            pigHeight = AssetCache.sourceHeight(pigRegion) * SCALE;
+            pigCullRadius = (float) Math.hypot(pigWidth, pigHeight) / 2 / PPM;
+            physicsClock.acquire();
+            updateCameraBounds();
+
+            physics = new PhysicsThread(physicsClock, "physics-" + level.getId());
+            // Held still until show(): the screen may be built ahead, behind another one
+            physics.pause();
+            physics.start();
+            game.log.post(GameEvent.LEVEL_CREATED);
         } catch (Exception e) {
             e.printStackTrace();
             Gdx.app.exit(); // Fail gracefully by exiting the app
@@ -109,15 +233,23 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
+        long frameStart = System.nanoTime();
+
         // Clear screen
         ScreenUtils.clear(0.1f, 0.1f, 0.2f, 1f);
 
-        // Update camera and physics world
-        camera.update();
-        world.step(1 / 60f, 6, 2);
+        // Update camera: frame the level around the slingshot, or around the bird in flight
+        if (birdLaunched) {
+            cameraController.update(delta, birdTransform.x(0), birdTransform.y(0));
+        } else {
+            cameraController.update(delta, level.slingshotBase.x, level.slingshotBase.y);
+        }
+        long phaseStart = timings.lap(FrameTimings.Phase.CAMERA, frameStart);
 
-        // Render debug shapes
-        debugRenderer.render(world, camera.combined);
+        // Pick up the newest physics snapshot; the world is stepped on its own thread if it has one
+        physics.setFastForward(resolveMode && isShotOver() ? RESOLVE_STEPS_PER_FRAME : 0);
+        physics.update(delta);
+        phaseStart = timings.lap(FrameTimings.Phase.PHYSICS, phaseStart);
 
         // Handle input
         handleInput();
@@ -127,88 +259,151 @@ public class GameScreen implements Screen {
             togglePlatformVisibility();
         }
 
-        // Check for game over or level completion
-        if (birdHitGround) {
-            noCollisionFrames++;
+        // Toggle the physics debug overlay and its channels
+        debugOverlay.handleInput();
 
-            if (noCollisionFrames > COLLISION_CHECK_THRESHOLD) {
-                if (areAllPillarsDestroyed() || areAllPigsOnGround()) {
-                    System.out.println("Transitioning to LevelCompleteScreen");
-                    game.setScreen(new LevelCompleteScreen(game));
-                    dispose();
-                    return;
-                }
+        // Toggle the frame timing overlay
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            timings.toggleOverlay();
+        }
 
-                if (!areAllPillarsDestroyed() || !areAllPigsOnGround()) {
-                    game.setScreen(new GameOverScreen(game));
-                    dispose();
-                    return;
-                }
+        // Toggle fast-forwarding shots the player can no longer influence
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
+            resolveMode = !resolveMode;
+        }
 
-                birdHitGround = false;
-            }
+        // Toggle between instanced and batched block drawing, to compare them with F3
+        if (Gdx.input.isKeyJustPressed(Input.Keys.I)) {
+            blocks.setInstancing(!blocks.isInstancing());
+        }
+        phaseStart = timings.lap(FrameTimings.Phase.INPUT, phaseStart);
+
+        // Write out the shot the physics side has just finished, before leaving the level
+        ShotRecording finished = finishedRecording.getAndSet(null);
+        if (finished != null) {
+            saveRecording(finished);
+        }
+
+        // Leave the level once the physics side has found the shot at rest and decided the outcome
+        if (levelWon) {
+            game.setScreen(new LevelCompleteScreen(game));
+            dispose();
+            return;
         }
+        if (levelLost) {
+            // Keep this screen and its world alive so a retry only has to reset it
+            game.setScreen(new GameOverScreen(game, this));
+            return;
+        }
+        phaseStart = timings.lap(FrameTimings.Phase.WIN_CHECK, phaseStart);
 
         // Begin batch rendering
+        batch.setProjectionMatrix(cameraController.getPixelProjection());
         batch.begin();
-        batch.draw(backgroundTexture, 0, 0, camera.viewportWidth * PPM, camera.viewportHeight * PPM);
+        batch.draw(backgroundTexture, cameraController.getViewLeft() * PPM, cameraController.getViewBottom() * PPM,
+            cameraController.getViewWidth() * PPM, cameraController.getViewHeight() * PPM);
 
         // Render game elements
         renderGameElements();
 
+        // Overlays are in window pixels; this also leaves the shared batch as other screens expect it
+        batch.setProjectionMatrix(cameraController.getScreenProjection());
+        timings.drawOverlay(batch, game.renderCalls, game.textureBindings);
+
         // End batch
         batch.end();
+        phaseStart = timings.lap(FrameTimings.Phase.DRAW, phaseStart);
+
+        // Render debug shapes on top of the sprites if the overlay is switched on; the shapes
+        // come from the world itself, so hold off the next step while they are read
+        if (debugOverlay.isEnabled()) {
+            physics.lockWorld();
+            try {
+                debugOverlay.render(world, camera.combined);
+            } finally {
+                physics.unlockWorld();
+            }
+        }
+        timings.lap(FrameTimings.Phase.DEBUG_RENDER, phaseStart);
+        timings.lap(FrameTimings.Phase.FRAME, frameStart);
     }
 
     private void renderGameElements() {
+        // Render the aim preview while the bird is held
+        if (isDragging) {
+            renderTrajectory();
+        }
+
         // Render bird
-        Vector2 birdPosition = birdBody.getPosition();
-        batch.draw(birdTexture, birdPosition.x * PPM - (birdTexture.getWidth() * SCALE / 2),
-            birdPosition.y * PPM - (birdTexture.getHeight() * SCALE / 2),
-            birdTexture.getWidth() * SCALE, birdTexture.getHeight() * SCALE);
-
-        // Render pillars
-        for (Body pillarBody : pillarBodies) {
-            Vector2 pillarPosition = pillarBody.getPosition();
-            float pillarAngle = pillarBody.getAngle() * 180.0f / (float) Math.PI;
-            float physicalWidth = 20;
-            float physicalHeight = 178;
-            batch.draw(pillarTexture,
-                pillarPosition.x * PPM - physicalWidth / 2,
-                pillarPosition.y * PPM - physicalHeight / 2,
-                physicalWidth / 2,
-                physicalHeight / 2,
-                physicalWidth,
-                physicalHeight,
-                1, 1,
-                pillarAngle,
-                0, 0,
-                pillarTexture.getWidth(), pillarTexture.getHeight(),
-                false, false
-            );
+        float birdScale = level.getBirdType().drawScale();
+        batch.draw(birdRegion, birdTransform.x(0) * PPM - (birdWidth * birdScale / 2),
+            birdTransform.y(0) * PPM - (birdHeight * birdScale / 2),
+            birdWidth * birdScale, birdHeight * birdScale);
+
+        // Render the birds still to come, lined up on the ground behind the slingshot
+        for (int i = 0; i < level.getBirdsLeft(); i++) {
+            float waitingScale = level.getWaitingBird(i).drawScale();
+            batch.draw(birdRegion,
+                platformX * PPM - WAITING_BIRD_SPACING * (i + 1) - birdWidth * waitingScale / 2,
+                0,
+                birdWidth * waitingScale, birdHeight * waitingScale);
+        }
+
+        // Render the structure: pillars, then blocks such as planks declared by the level
+        blocks.begin(batch);
+        for (int i = 0; i < pillarTransforms.size(); i++) {
+            if (!cameraController.isVisible(pillarTransforms.x(i), pillarTransforms.y(i), pillarCullRadius)) {
+                continue;
+            }
+            blocks.draw(pillarRegion, pillarTransforms.x(i) * PPM, pillarTransforms.y(i) * PPM,
+                20, 178, pillarTransforms.angle(i));
+        }
+        for (int i = 0; i < blockRegions.length; i++) {
+            if (!cameraController.isVisible(blockTransforms.x(i), blockTransforms.y(i), blockCullRadii[i])) {
+                continue;
+            }
+            blocks.draw(blockRegions[i], blockTransforms.x(i) * PPM, blockTransforms.y(i) * PPM,
+                blockDrawSizes[i * 2], blockDrawSizes[i * 2 + 1], blockTransforms.angle(i));
         }
+        blocks.end();
 
         // Render pigs
-        for (Body pigBody : pigBodies) {
-            Vector2 pigPosition = pigBody.getPosition();
-            batch.draw(pigTexture, pigPosition.x * PPM - (pigTexture.getWidth() * SCALE / 2),
-                pigPosition.y * PPM - (pigTexture.getHeight() * SCALE / 2),
-                pigTexture.getWidth() * SCALE, pigTexture.getHeight() * SCALE);
+        for (int i = 0; i < pigTransforms.size(); i++) {
+            if (!cameraController.isVisible(pigTransforms.x(i), pigTransforms.y(i), pigCullRadius)) {
+                continue;
+            }
+            batch.draw(pigRegion, pigTransforms.x(i) * PPM - (pigWidth / 2),
+                pigTransforms.y(i) * PPM - (pigHeight / 2),
+                pigWidth, pigHeight);
         }
 
         // Render platform if visible
         if (isPlatformVisible) {
-            Vector2 platformPosition = platformBody.getPosition();
-            batch.draw(platformTexture,
-                platformPosition.x * PPM - (platformWidth * PPM / 2),
-                platformPosition.y * PPM - (platformHeight * PPM / 2),
+            batch.draw(platformRegion,
+                platformX * PPM - (platformWidth * PPM / 2),
+                platformY * PPM - (platformHeight * PPM / 2),
                 platformWidth * PPM,
                 platformHeight * PPM);
         }
     }
 
+    private void renderTrajectory() {
+        batch.setColor(1, 1, 1, 0.6f);
+        // The physics side recomputes the path as drags arrive
+        synchronized (trajectory) {
+            int last = trajectory.getPointCount() - 1;
+            for (int i = 1; i <= last; i++) {
+                float size = (i == last && trajectory.hasImpact()) ? TRAJECTORY_IMPACT_SIZE : TRAJECTORY_DOT_SIZE;
+                batch.draw(birdRegion, trajectory.x(i) * PPM - size / 2, trajectory.y(i) * PPM - size / 2, size, size);
+            }
+        }
+        batch.setColor(1, 1, 1, 1);
+    }
+
     @Override
-    public void resize(int width, int height) {}
+    public void resize(int width, int height) {
+        cameraController.resize(width, height);
+    }
 
     @Override
     public void pause() {}
@@ -217,127 +412,128 @@ public class GameScreen implements Screen {
     public void resume() {}
 
     @Override
-    public void hide() {}
+    public void hide() {
+        physics.pause();
+    }
 
     @Override
-    public void dispose() {
-        debugRenderer.dispose();
-        world.dispose();
-        batch.dispose();
-        birdTexture.dispose();
-        pillarTexture.dispose();
-        pigTexture.dispose();
-        platformTexture.dispose();
-        backgroundTexture.dispose();
+    public void restart() {
+        physics.runAndWait(this::resetLevel);
+        physicsClock.acquire();
+        updateCameraBounds();
+        cameraController.snap();
+        isDragging = false;
     }
 
-    private void togglePlatformVisibility() {
-        isPlatformVisible = !isPlatformVisible;
-        platformBody.setActive(isPlatformVisible);
+    /** Physics side of {@link #restart()}: puts the world and the shot state back. */
+    private void resetLevel() {
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.RESTART);
+        if (level.restart() > 0) {
+            // Destroyed bodies were created again, so the tracker's body slots are stale
+            objectives = new ObjectiveTracker(pillarBodies, pigBodies);
+        } else {
+            objectives.refreshAll();
+        }
+        birdBody = level.birdBody;
+        birdSlot.set(0, birdBody);
+        platformBody = level.platformBody;
+        platformX = platformBody.getPosition().x;
+        platformY = platformBody.getPosition().y;
+        groundBody = level.groundBody;
+        // Read back by the render thread once the restart has run
+        isPlatformVisible = platformBody.isActive();
+        physicsClock.reset();
+
+        trajectory.invalidate();
+        shotInProgress = false;
+        birdLaunched = false;
+        abilityUsed = false;
+        birdHitGround = false;
+        levelWon = false;
+        levelLost = false;
+        settle.reset();
     }
 
-    private void initializeBird() {
-        slingshotBase = new Vector2(
-            platformBody.getPosition().x,
-            platformBody.getPosition().y + (platformHeight / 2) + (10 / PPM)
-        );
-
-        BodyDef birdDef = new BodyDef();
-        birdDef.type = BodyDef.BodyType.DynamicBody;
-        birdDef.position.set(slingshotBase);
-
-        birdBody = world.createBody(birdDef);
-
-        CircleShape birdShape = new CircleShape();
-        birdShape.setRadius(10 / PPM);
-
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = birdShape;
-        fixtureDef.density = 1.0f;
-        fixtureDef.restitution = 0.5f;
-        birdBody.createFixture(fixtureDef);
-        birdShape.dispose();
+    /** Lets the camera frame the slingshot and every body of the level where the acquired snapshot has it. */
+    private void updateCameraBounds() {
+        cameraController.resetBounds();
+        cameraController.addToBounds(level.slingshotBase.x, level.slingshotBase.y, 0);
+        for (int i = 0; i < pillarTransforms.size(); i++) {
+            cameraController.addToBounds(pillarTransforms.x(i), pillarTransforms.y(i), pillarCullRadius);
+        }
+        for (int i = 0; i < pigTransforms.size(); i++) {
+            cameraController.addToBounds(pigTransforms.x(i), pigTransforms.y(i), pigCullRadius);
+        }
+        for (int i = 0; i < blockCullRadii.length; i++) {
+            cameraController.addToBounds(blockTransforms.x(i), blockTransforms.y(i), blockCullRadii[i]);
+        }
     }
 
-    private void createPlatform() {
-        BodyDef postDef = new BodyDef();
-        postDef.type = BodyDef.BodyType.StaticBody;
-        postDef.position.set(1, 0);
-        platformBody = world.createBody(postDef);
-
-        PolygonShape platformShape = new PolygonShape();
-        platformShape.setAsBox(platformWidth / 2, platformHeight / 2);
-        FixtureDef platformFixture = new FixtureDef();
-        platformFixture.shape = platformShape;
-        platformFixture.friction = 0.5f;
-        platformFixture.restitution = 0.1f;
-        platformFixture.filter.categoryBits = 0x0002;
-        platformBody.createFixture(platformFixture);
-        platformShape.dispose();
+    @Override
+    public void dispose() {
+        // The stepping thread must be gone before the world is
+        physics.dispose();
+        level.dispose();
+        game.assets.release(AssetCache.SPRITE_ATLAS);
+        game.assets.release(AssetCache.LEVEL_BACKGROUND);
     }
 
-    private void createGround() {
-        BodyDef groundBodyDef = new BodyDef();
-        groundBodyDef.type = BodyDef.BodyType.StaticBody;
-        groundBodyDef.position.set(0, -10 / PPM);
-        groundBody = world.createBody(groundBodyDef);
-
-        PolygonShape groundShape = new PolygonShape();
-        groundShape.setAsBox(1000 / PPM, 10 / PPM);
-
-        groundBody.createFixture(groundShape, 0);
-        groundShape.dispose();
+    private void togglePlatformVisibility() {
+        isPlatformVisible = !isPlatformVisible;
+        physics.post(platformCommand);
     }
 
-    private void createPillars() {
-        for (int i = 0; i < 4; i++) {
-            BodyDef pillarDef = new BodyDef();
-            pillarDef.type = BodyDef.BodyType.DynamicBody;
-            pillarDef.position.set((200 + 100 * (i + 1)) / PPM, 100 / PPM);
-
-            Body pillarBody = world.createBody(pillarDef);
-
-            PolygonShape pillarShape = new PolygonShape();
-            pillarShape.setAsBox(5 / PPM, 75 / PPM);
-
-            FixtureDef pillarFixture = new FixtureDef();
-            pillarFixture.shape = pillarShape;
-            pillarFixture.density = 1f;
-            pillarFixture.restitution = 0.3f;
+    // Each toggle posts one command, so flipping the body keeps it in step with the render side
+    private void applyPlatformToggle() {
+        boolean active = !platformBody.isActive();
+        platformBody.setActive(active);
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.PLATFORM, active ? 1 : 0, 0);
+    }
 
-            pillarBody.createFixture(pillarFixture);
-            pillarShape.dispose();
+    /**
+     * Runs after every step on the physics side. Keeps the objectives current and, once a
+     * launched shot has come to rest, either loads the next bird or decides the level.
+     */
+    private void afterStep() {
+        objectives.update();
+        if (!shotInProgress || !settle.isSettled() || levelWon || levelLost) {
+            return;
+        }
+        game.log.post(GameEvent.SHOT_SETTLED, settle.getSteps(), settle.getKineticEnergy(), 0);
+        // Disk I/O would hold up stepping, so the render thread writes the file
+        recording.finish(physicsClock.getTotalSteps(), level.checksum());
+        finishedRecording.set(recording.copy());
+        if (objectives.isLevelWon()) {
+            game.log.post(GameEvent.LEVEL_COMPLETE);
+            levelWon = true;
+            return;
+        }
 
-            pillarBodies.add(pillarBody);
+        if (level.getBirdsLeft() > 0) {
+            nextBird();
+        } else if (!objectives.areAllPillarsDestroyed() || !objectives.areAllPigsOnGround()) {
+            game.log.post(GameEvent.GAME_OVER);
+            levelLost = true;
         }
     }
 
-    private void createPigs() {
-        for (Body pillarBody : pillarBodies) {
-            BodyDef pigDef = new BodyDef();
-            pigDef.type = BodyDef.BodyType.DynamicBody;
-            Vector2 pillarPosition = pillarBody.getPosition();
-            pigDef.position.set(pillarPosition.x, pillarPosition.y + (75 + 10) / PPM);
-
-            Body pigBody = world.createBody(pigDef);
-            pigBody.setUserData(new Pig());
-            CircleShape pigShape = new CircleShape();
-            pigShape.setRadius(10 / PPM);
-
-            FixtureDef pigFixture = new FixtureDef();
-            pigFixture.shape = pigShape;
-            pigFixture.density = 0.5f;
-            pigFixture.restitution = 0.5f;
-
-            pigBody.createFixture(pigFixture);
-            pigShape.dispose();
-
-            pigBodies.add(pigBody);
+    /** Writes every input since the level was built, with the checksum of the state it led to. */
+    private void saveRecording(ShotRecording finished) {
+        File file = new File(REPLAY_DIR, "shot-" + System.currentTimeMillis() + ".shot");
+        try {
+            file.getParentFile().mkdirs();
+            finished.write(file);
+            game.log.post(GameEvent.SHOT_RECORDED, finished.getEventCount(), 0, 0);
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not write " + file, e);
         }
     }
 
     private void handleInput() {
-        if (!isBirdLanded && birdBody.getType() != BodyDef.BodyType.StaticBody) {
+        if (birdLaunched && !abilityUsed && handleAbilityInput()) {
+            return;
+        }
+        if (!birdLaunched) {
             if (Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
                 handleDragInput();
             } else if (isDragging) {
@@ -347,100 +543,131 @@ public class GameScreen implements Screen {
     }
 
     private void handleDragInput() {
-        Vector3 unprojected = camera.unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0));
-        Vector2 mousePosition = new Vector2(unprojected.x, unprojected.y);
+        cameraController.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY(), 0));
 
-        if (!isDragging && mousePosition.dst(birdBody.getPosition()) < 20 / PPM) {
-            isDragging = true;
+        if (!isDragging) {
+            // Same test as LevelWorld.canGrabBird, against the drawn bird instead of the body
+            float dx = touchPoint.x - birdTransform.x(0);
+            float dy = touchPoint.y - birdTransform.y(0);
+            isDragging = dx * dx + dy * dy < LevelWorld.GRAB_RADIUS * LevelWorld.GRAB_RADIUS;
         }
 
         if (isDragging) {
-            dragPosition.set(mousePosition);
-
-            if (dragPosition.dst(slingshotBase) > 50 / PPM) {
-                dragPosition = slingshotBase.cpy().add(dragPosition.sub(slingshotBase).nor().scl(50 / PPM));
+            dragX = touchPoint.x;
+            dragY = touchPoint.y;
+            dragMaxX = camera.viewportWidth;
+            dragMaxY = camera.viewportHeight;
+            // One pending drag is enough; it picks up the newest point when it runs
+            if (dragPosted.compareAndSet(false, true)) {
+                physics.post(dragCommand);
             }
-
-            confineDragPositionToViewport();
-            birdBody.setTransform(dragPosition, birdBody.getAngle());
         }
     }
 
-    private void confineDragPositionToViewport() {
-        dragPosition.x = Math.max(0 / PPM, Math.min(camera.viewportWidth, dragPosition.x));
-        dragPosition.y = Math.max(0 / PPM, Math.min(camera.viewportHeight, dragPosition.y));
+    private void applyDrag() {
+        dragPosted.set(false);
+        if (shotInProgress) {
+            return;
+        }
+        level.dragBird(dragX, dragY, dragMaxX, dragMaxY);
+        recording.addDrag(physicsClock.getTotalSteps(), level.getDragPosition().x, level.getDragPosition().y);
+        birdTransform.snap();
+        synchronized (trajectory) {
+            trajectory.update();
+        }
     }
 
     private void launchBird() {
-        Vector2 launchForce = slingshotBase.cpy().sub(dragPosition).scl(0.45F);
-        birdBody.applyLinearImpulse(launchForce, birdBody.getWorldCenter(), true);
-
-        Filter filter = new Filter();
-        filter.categoryBits = 0x0001;
-        filter.maskBits = ~(0x0002);
-
-        for (Fixture fixture : birdBody.getFixtureList()) {
-            fixture.setFilterData(filter);
-        }
-
         isDragging = false;
+        birdLaunched = true;
+        physics.post(launchCommand);
     }
 
+    private void applyLaunch() {
+        level.launchBird();
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.LAUNCH,
+            level.getLaunchImpulse().x, level.getLaunchImpulse().y);
+        game.log.post(GameEvent.BIRD_LAUNCHED, 0, level.getLaunchImpulse().x, level.getLaunchImpulse().y);
+        shotInProgress = true;
+        settle.reset();
+    }
 
+    /** Puts the next bird of the level's queue on the slingshot and starts a new shot; physics side. */
+    private void nextBird() {
+        level.nextBird();
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.NEXT_BIRD);
+        game.log.post(GameEvent.NEXT_BIRD, level.getBirdsLeft(), 0, 0);
+        birdBody = level.birdBody;
+        birdSlot.set(0, birdBody);
+        birdTransform.snap();
+
+        trajectory.invalidate();
+        shotInProgress = false;
+        birdLaunched = false;
+        abilityUsed = false;
+        birdHitGround = false;
+        settle.reset();
+    }
 
-    class CollisionListener implements ContactListener {
-        @Override
-        public void beginContact(Contact contact) {
-            Fixture fixtureA = contact.getFixtureA();
-            Fixture fixtureB = contact.getFixtureB();
-            Body bodyA = fixtureA.getBody();
-            Body bodyB = fixtureB.getBody();
+    /** Whether the player has nothing left to do this shot: the bird has landed or used its ability. */
+    private boolean isShotOver() {
+        return birdLaunched && (abilityUsed || birdHitGround);
+    }
 
-            if (bodyA == birdBody || bodyB == birdBody) {
-                Body otherBody = (bodyA == birdBody) ? bodyB : bodyA;
+    // The tracker is replaced when a restart creates bodies again, so look it up each time
+    private void onBodyPushed(Body body) {
+        objectives.onPushed(body);
+    }
 
-                if (otherBody == groundBody) {
-                    birdHitGround = true;
-                    noCollisionFrames = 0;
-                    System.out.println("Bird has hit the ground.");
-                }
-            }
-        }
+    private void onBodyDestroyed(Body body, Destructible data) {
+        objectives.onDestroyed(body);
+        game.log.post(data instanceof Pig ? GameEvent.PIG_DESTROYED : GameEvent.PILLAR_DESTROYED);
+    }
 
-        @Override
-        public void endContact(Contact contact) {}
+    /**
+     * Left click makes the flying bird explode, right click makes it release a shockwave,
+     * as far as its {@link BirdType} allows.
+     */
+    private boolean handleAbilityInput() {
+        BirdType type = level.getBirdType();
+        if (type.canExplode && Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
+            physics.post(explodeCommand);
+        } else if (type.canShockwave && Gdx.input.isButtonJustPressed(Input.Buttons.RIGHT)) {
+            physics.post(shockwaveCommand);
+        } else {
+            return false;
+        }
+        abilityUsed = true;
+        return true;
+    }
 
-        @Override
-        public void preSolve(Contact contact, Manifold oldManifold) {}
+    private void applyExplode() {
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.EXPLODE);
+        game.log.post(GameEvent.BIRD_EXPLODED, level.explodeBird(), 0, 0);
+    }
 
-        @Override
-        public void postSolve(Contact contact, ContactImpulse impulse) {}
+    private void applyShockwave() {
+        recording.add(physicsClock.getTotalSteps(), ShotRecording.SHOCKWAVE);
+        level.startShockwave();
+        game.log.post(GameEvent.SHOCKWAVE_RELEASED, 0, birdBody.getPosition().x, birdBody.getPosition().y);
     }
 
-    private boolean areAllPillarsDestroyed() {
-        float pillarAngleThreshold = 45.0f;
-        float pillarHeightThreshold = 50.0f / PPM;
-        for (Body pillarBody : pillarBodies) {
-            float angle = Math.abs(pillarBody.getAngle() * 180.0f / (float) Math.PI);
-            float height = pillarBody.getPosition().y;
-            if (angle < pillarAngleThreshold && height > pillarHeightThreshold) {
-                System.out.println("Pillar not yet destroyed: angle = " + angle + ", height = " + height);
-                return false;
-            }
+    /** Reacts to the contacts of the last step, drained from the level's queue after the step. */
+    private void onContact(byte type, Body bodyA, Body bodyB, boolean changed) {
+        if (type == ContactEventQueue.OVERFLOW) {
+            // Some contacts were lost; look at every body again
+            objectives.refreshAll();
+            return;
         }
-        System.out.println("All pillars destroyed!");
-        return true;
-    }
+        objectives.onContact(bodyA, bodyB);
 
-    private boolean areAllPigsOnGround() {
-        float groundLevelThreshold = 10.0f / PPM;
-        for (Body pigBody : pigBodies) {
-            if (pigBody.getPosition().y > groundLevelThreshold) {
-                System.out.println("Pig not on ground: y = " + pigBody.getPosition().y);
-                return false;
-            }
+        if (type == ContactEventQueue.BEGIN
+                && ((bodyA == birdBody && bodyB == groundBody) || (bodyB == birdBody && bodyA == groundBody))) {
+            birdHitGround = true;
+            game.log.post(GameEvent.BIRD_HIT_GROUND);
+        }
+        if (changed) {
+            game.log.post(GameEvent.PIG_PUSHED);
         }
-        System.out.println("All pigs are on the ground!");
-        return true;
     }
 }
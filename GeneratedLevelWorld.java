@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.*;
+
+/**
+ * A level built from a {@link StructureGenerator} layout, for endless play and for stress
+ * tests at thousands of bodies. The same seed and body count always build the same level.
+ * The id records both, so {@link ShotReplayer} and {@link ShotSolver} can rebuild it.
+ * Pillars are destructible and carry the material the generator chose. Planks, walls and
+ * pyramid boxes are blocks drawn at their body size.
+ */
+public class GeneratedLevelWorld extends LevelWorld {
+
+    static final String ID_PREFIX = "GeneratedLevelWorld:";
+
+    // Generated structures are stacked higher than the hand-made levels, so they get more grip
+    private static final float FRICTION = 0.6f;
+
+    private final long seed;
+    private final int bodyCount;
+    private final StructureGenerator.Layout layout;
+
+    /** @param bodyCount bodies in the structures, pigs included; the platform, ground and birds come on top */
+    public GeneratedLevelWorld(long seed, int bodyCount) {
+        super(-9.8f);
+        this.seed = seed;
+        this.bodyCount = bodyCount;
+        layout = new StructureGenerator(seed).generate(bodyCount);
+    }
+
+    /** Rebuilds a level from an id of the form {@code GeneratedLevelWorld:<seed>:<bodyCount>}. */
+    static GeneratedLevelWorld fromId(String id) {
+        String[] parts = id.substring(ID_PREFIX.length()).split(":");
+        return new GeneratedLevelWorld(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    @Override
+    public String getId() {
+        return ID_PREFIX + seed + ":" + bodyCount;
+    }
+
+    public StructureGenerator.Layout getLayout() {
+        return layout;
+    }
+
+    @Override
+    protected float groundHalfWidth() {
+        // The ground is centered on the origin and must reach past the last structure
+        return Math.max(super.groundHalfWidth(), layout.right + StructureGenerator.GAP);
+    }
+
+    @Override
+    protected void createStructure() {
+        // One shape of each type serves every piece; Box2D copies it into the fixture
+        PolygonShape box = new PolygonShape();
+        CircleShape circle = new CircleShape();
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        // Pieces are laid out at rest, so they start asleep until something hits them. Awake,
+        // a tower of free-standing pillars sways apart within seconds.
+        bodyDef.awake = false;
+        FixtureDef fixture = new FixtureDef();
+        fixture.friction = FRICTION;
+
+        for (StructureGenerator.Piece piece : layout.pieces) {
+            bodyDef.position.set(piece.x, piece.y);
+            Body body = world.createBody(bodyDef);
+            switch (piece.kind) {
+                case StructureGenerator.PILLAR:
+                    box.setAsBox(piece.halfWidth, piece.halfHeight);
+                    fixture.shape = box;
+                    fixture.density = 1f;
+                    fixture.restitution = 0.3f;
+                    body.createFixture(fixture);
+                    body.setUserData(new Pillar(piece.material));
+                    pillarBodies.add(body);
+                    break;
+                case StructureGenerator.BLOCK:
+                    box.setAsBox(piece.halfWidth, piece.halfHeight);
+                    fixture.shape = box;
+                    fixture.density = 0.5f;
+                    fixture.restitution = 0.2f;
+                    body.createFixture(fixture);
+                    addBlock(body, piece.region, piece.halfWidth * 2 * PPM, piece.halfHeight * 2 * PPM);
+                    break;
+                default:
+                    circle.setRadius(piece.halfWidth);
+                    fixture.shape = circle;
+                    fixture.density = 0.5f;
+                    fixture.restitution = 0.5f;
+                    body.createFixture(fixture);
+                    pigBodies.add(body);
+                    break;
+            }
+        }
+        box.dispose();
+        circle.dispose();
+    }
+}
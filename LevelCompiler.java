@@ -0,0 +1,111 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Offline build step that turns a JSON level description (see {@code levels/}) into the
+ * binary layout of {@link LevelFormat}. Usage:
+ * <pre>LevelCompiler level.json... outputDir</pre>
+ * Each input is written to {@code outputDir/<name>.lvl}.
+ */
+public class LevelCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: LevelCompiler level.json... outputDir");
+            System.exit(1);
+        }
+        File outputDir = new File(args[args.length - 1]);
+        outputDir.mkdirs();
+        for (int i = 0; i < args.length - 1; i++) {
+            File input = new File(args[i]);
+            String name = input.getName().replaceFirst("\\.json$", "");
+            File output = new File(outputDir, name + ".lvl");
+            byte[] compiled = compile(new JsonReader().parse(new FileHandle(input)));
+            try (OutputStream out = new FileOutputStream(output)) {
+                out.write(compiled);
+            }
+            System.out.println("Compiled " + input + " -> " + output + " (" + compiled.length + " bytes)");
+        }
+    }
+
+    static byte[] compile(JsonValue level) {
+        JsonValue bodies = level.get("bodies");
+        if (bodies == null) {
+            throw new IllegalArgumentException("Level has no \"bodies\" array");
+        }
+
+        // Region names are stored once and referenced by index
+        List<String> regions = new ArrayList<>();
+        int regionBytes = 0;
+        for (JsonValue body = bodies.child; body != null; body = body.next) {
+            String region = body.getString("texture", null);
+            if (region != null && !regions.contains(region)) {
+                regions.add(region);
+                regionBytes += 2 + region.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        if (regions.size() >= LevelFormat.NO_REGION) {
+            throw new IllegalArgumentException("Too many textures in one level: " + regions.size());
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(LevelFormat.HEADER_SIZE + regionBytes + bodies.size * LevelFormat.BODY_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        JsonValue gravity = level.get("gravity");
+        out.putInt(LevelFormat.MAGIC);
+        out.putShort(LevelFormat.VERSION);
+        out.putShort((short) regions.size());
+        out.putFloat(gravity == null ? 0 : gravity.getFloat("x", 0));
+        out.putFloat(gravity == null ? -9.8f : gravity.getFloat("y", -9.8f));
+        out.putInt(bodies.size);
+
+        for (String region : regions) {
+            byte[] bytes = region.getBytes(StandardCharsets.UTF_8);
+            out.putShort((short) bytes.length);
+            out.put(bytes);
+        }
+
+        for (JsonValue body = bodies.child; body != null; body = body.next) {
+            String shape = body.getString("shape", "box");
+            String region = body.getString("texture", null);
+            out.put(LevelFormat.indexOf(LevelFormat.BODY_TYPE_NAMES, body.getString("type", "dynamic"), "body type"));
+            out.put(LevelFormat.indexOf(LevelFormat.ROLE_NAMES, body.getString("role", "other"), "role"));
+            out.put(LevelFormat.indexOf(LevelFormat.SHAPE_NAMES, shape, "shape"));
+            out.put((byte) (region == null ? LevelFormat.NO_REGION : regions.indexOf(region)));
+            out.putFloat(body.getFloat("x"));
+            out.putFloat(body.getFloat("y"));
+            out.putFloat(body.getFloat("angle", 0));
+            if (shape.equals("circle")) {
+                out.putFloat(body.getFloat("radius"));
+                out.putFloat(0);
+            } else {
+                out.putFloat(body.getFloat("width") / 2);
+                out.putFloat(body.getFloat("height") / 2);
+            }
+            out.putFloat(body.getFloat("density", 0));
+            out.putFloat(body.getFloat("friction", 0.2f));
+            out.putFloat(body.getFloat("restitution", 0));
+            out.putShort((short) body.getInt("category", 0x0001));
+            out.putShort((short) body.getInt("mask", 0xFFFF));
+            JsonValue draw = body.get("draw");
+            if (draw == null) {
+                out.putFloat(0);
+                out.putFloat(0);
+            } else if (draw.has("scale")) {
+                out.putFloat(-draw.getFloat("scale"));
+                out.putFloat(-draw.getFloat("scale"));
+            } else {
+                out.putFloat(draw.getFloat("width"));
+                out.putFloat(draw.getFloat("height"));
+            }
+        }
+        return out.array();
+    }
+}
@@ -5,6 +5,13 @@ import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.utils.ScreenUtils;
 
+/**
+ * Shown after a level is won. While it is up, the next level's screen and world are built in
+ * a frame of their own, with its physics held still until it is shown, so SPACE only has to
+ * swap screens. The cache keeps the sprite atlas and level background resident after the
+ * level just won, so usually only the world build is moved ahead; images that are not
+ * resident are decoded on the cache's worker threads and uploaded one per frame first.
+ */
 public class LevelCompleteScreen implements Screen {
 
     private final MainGame game;
@@ -12,11 +19,21 @@ public class LevelCompleteScreen implements Screen {
     private final BitmapFont font;
     private Texture backgroundTexture;
 
+    // Next level, built once its assets are resident
+    private LevelScreen nextLevel;
+    private final long preloadStart;
+    private int preloadFrames = 0;
+
     public LevelCompleteScreen(MainGame game) {
         this.game = game;
         this.batch = game.batch;
         this.font = new BitmapFont(); // Use a default font or load a custom one
-        this.backgroundTexture = new Texture(Gdx.files.internal("levelcomplete.png"));
+        this.backgroundTexture = game.assets.acquire(AssetCache.LEVEL_COMPLETE_BACKGROUND);
+
+        // Start decoding the next level's images right away, unless they are still resident
+        preloadStart = System.nanoTime();
+        game.assets.preloadAtlas(AssetCache.SPRITE_ATLAS);
+        game.assets.preload(AssetCache.LEVEL_BACKGROUND);
     }
 
     @Override
@@ -34,19 +51,48 @@ public class LevelCompleteScreen implements Screen {
         // Draw the text on top of the background
         batch.end();
 
-        handleInput();
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            // Switch to Level Two once space is pressed
-            game.setScreen(new LevelTwoScreen(game));
+        if (handleInput()) {
+            return;
+        }
+        preloadStep();
+    }
+
+    /** Does one slice of the preload: one texture upload, or building the level screen. */
+    private void preloadStep() {
+        if (nextLevel != null) {
+            return;
+        }
+        preloadFrames++;
+        if (game.assets.update()) {
+            nextLevel = new GameScreen(game, new LevelTwoWorld());
+            game.log.post(GameEvent.NEXT_LEVEL_READY, preloadFrames,
+                (System.nanoTime() - preloadStart) / 1e6f, 0);
         }
     }
 
-    private void handleInput() {
+    private boolean handleInput() {
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            game.startGame(); // Start a new game or level
+            // Switch to Level Two, finishing whatever the preload has not done yet
+            long switchStart = System.nanoTime();
+            int stillLoading = game.assets.getPendingCount();
+            if (nextLevel == null) {
+                game.assets.finishLoading();
+                nextLevel = new GameScreen(game, new LevelTwoWorld());
+            }
+            game.setScreen(nextLevel);
+            game.log.post(GameEvent.NEXT_LEVEL_SWITCH, stillLoading,
+                (System.nanoTime() - switchStart) / 1e6f, 0);
+            dispose();
+            return true;
         } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             game.setScreen(new StartMenuScreen(game)); // Go back to the start menu
+            if (nextLevel != null) {
+                nextLevel.dispose();
+            }
+            dispose();
+            return true;
         }
+        return false;
     }
 
     @Override
@@ -64,6 +110,6 @@ public class LevelCompleteScreen implements Screen {
     @Override
     public void dispose() {
         font.dispose();
-        backgroundTexture.dispose();
+        game.assets.release(AssetCache.LEVEL_COMPLETE_BACKGROUND);
     }
 }
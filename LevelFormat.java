@@ -0,0 +1,55 @@
+package io.github.some_example_name;
+
+/**
+ * Layout of a compiled level file, as written by {@link LevelCompiler} and read by
+ * {@link CompiledLevelWorld}. All values are little-endian.
+ * <pre>
+ * header   int magic, short version, short regionCount, float gravityX, float gravityY, int bodyCount
+ * regions  regionCount x (short byteLength, UTF-8 bytes)
+ * bodies   bodyCount x BODY_SIZE bytes:
+ *          byte bodyType, byte role, byte shape, byte region (0xFF = none),
+ *          float x, float y, float angle, float halfWidthOrRadius, float halfHeight,
+ *          float density, float friction, float restitution,
+ *          short categoryBits, short maskBits, float drawWidth, float drawHeight
+ * </pre>
+ * Positions and shape sizes are in meters, draw sizes in pixels. A negative draw size is a
+ * scale factor applied to the source image size instead.
+ */
+final class LevelFormat {
+
+    static final int MAGIC = 0x4C564C31; // "LVL1"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 4 + 2 + 2 + 4 + 4 + 4;
+    static final int BODY_SIZE = 4 + 4 * 8 + 2 + 2 + 4 * 2;
+
+    // Body roles
+    static final byte ROLE_OTHER = 0;
+    static final byte ROLE_PLATFORM = 1;
+    static final byte ROLE_GROUND = 2;
+    static final byte ROLE_BIRD = 3;
+    static final byte ROLE_PILLAR = 4;
+    static final byte ROLE_PIG = 5;
+    static final byte ROLE_BLOCK = 6;
+
+    // Shapes
+    static final byte SHAPE_BOX = 0;
+    static final byte SHAPE_CIRCLE = 1;
+
+    static final int NO_REGION = 0xFF;
+
+    static final String[] ROLE_NAMES = {"other", "platform", "ground", "bird", "pillar", "pig", "block"};
+    static final String[] SHAPE_NAMES = {"box", "circle"};
+    static final String[] BODY_TYPE_NAMES = {"static", "kinematic", "dynamic"};
+
+    private LevelFormat() {
+    }
+
+    static byte indexOf(String[] names, String name, String what) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return (byte) i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + what + ": " + name);
+    }
+}
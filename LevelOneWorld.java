@@ -0,0 +1,66 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+
+/** Physics world of the first level: a row of pillars with a pig on each. */
+public class LevelOneWorld extends LevelWorld {
+
+    private final int pillarCount;
+
+    public LevelOneWorld() {
+        this(4);
+    }
+
+    /** A first level with a longer row of pillars, used to scale benchmarks. */
+    public LevelOneWorld(int pillarCount) {
+        super(-7f);
+        this.pillarCount = pillarCount;
+    }
+
+    @Override
+    public String getId() {
+        return pillarCount == 4 ? super.getId() : super.getId() + ":" + pillarCount;
+    }
+
+    @Override
+    protected void createStructure() {
+        createPillars(pillarCount);
+        createPigs();
+    }
+
+    @Override
+    protected BirdType[] createBirdQueue() {
+        return new BirdType[] {BirdType.RED, BirdType.RED, BirdType.BOMB};
+    }
+
+    @Override
+    protected float groundHalfWidth() {
+        // Wide enough for the last pillar of a long row
+        return Math.max(super.groundHalfWidth(), (300 + 100 * pillarCount) / PPM);
+    }
+
+    void createPigs() {
+        for (Body pillarBody : pillarBodies) {
+            BodyDef pigDef = new BodyDef();
+            pigDef.type = BodyDef.BodyType.DynamicBody;
+            Vector2 pillarPosition = pillarBody.getPosition();
+            pigDef.position.set(pillarPosition.x, pillarPosition.y + (75 + 10) / PPM);
+
+            Body pigBody = world.createBody(pigDef);
+            pigBody.setUserData(new Pig());
+            CircleShape pigShape = new CircleShape();
+            pigShape.setRadius(10 / PPM);
+
+            FixtureDef pigFixture = new FixtureDef();
+            pigFixture.shape = pigShape;
+            pigFixture.density = 0.5f;
+            pigFixture.restitution = 0.5f;
+
+            pigBody.createFixture(pigFixture);
+            pigShape.dispose();
+
+            pigBodies.add(pigBody);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Screen;
+
+/** A screen playing a level that can be reset to its starting state and played again. */
+public interface LevelScreen extends Screen {
+
+    /** Puts the level back to how it started without rebuilding the screen or its world. */
+    void restart();
+}
@@ -0,0 +1,162 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+
+/** Physics world of the second level: pillars carrying a plank with a second storey on top. */
+public class LevelTwoWorld extends LevelWorld {
+
+    public Body plankBody;
+
+    public LevelTwoWorld() {
+        super(-9.8f);
+    }
+
+    @Override
+    protected void createStructure() {
+        createPillars(4);
+        createLargePlank();
+        createPillarsOnPlank();
+        createPigsOnPillars();
+    }
+
+    @Override
+    protected BirdType[] createBirdQueue() {
+        return new BirdType[] {BirdType.RED, BirdType.BOMB, BirdType.HEAVY};
+    }
+
+    void createLargePlank() {
+        // Plank configuration to span across all pillars
+        float pillarStartX = (200 + 100) / PPM; // X position of the first pillar
+        float pillarEndX = (200 + 100 * 4) / PPM; // X position of the last pillar
+
+        float plankWidth = (pillarEndX - pillarStartX + 20 / PPM); // Adjust width to cover all pillars
+
+        float plankHeight = 10 / PPM; // Height of the plank
+        float plankPositionX = (pillarStartX + pillarEndX) / 2; // Center the plank among the pillars
+        // Rest on the pillar tops; a plank spawned into them is thrown off as they separate
+        float pillarTopY = pillarBodies.get(0).getPosition().y + 75 / PPM;
+        float plankPositionY = pillarTopY + RESTING_GAP + plankHeight / 2;
+
+        BodyDef plankDef = new BodyDef();
+        plankDef.type = BodyDef.BodyType.DynamicBody;
+        plankDef.position.set(plankPositionX, plankPositionY);
+
+        plankBody = world.createBody(plankDef);
+
+        PolygonShape plankShape = new PolygonShape();
+        plankShape.setAsBox(plankWidth / 2, plankHeight / 2);
+
+        FixtureDef plankFixture = new FixtureDef();
+        plankFixture.shape = plankShape;
+        plankFixture.density = 0.5f;
+        plankFixture.restitution = 0.2f;
+
+        plankBody.createFixture(plankFixture);
+        plankShape.dispose();
+
+        addBlock(plankBody, AssetCache.REGION_PLANK, 400, 10);
+    }
+
+    void createPillarsOnPlank() {
+        // Assuming plankBody exists and is the body for the plank
+        float plankTopY = plankBody.getPosition().y + (10 / PPM) / 2; // Top Y-position of the plank
+
+        // Calculate the new Y position to place pillars directly on plank
+        float pillarHeight = 75 / PPM; // Height of your pillars
+        float pillarBaseY = plankTopY + RESTING_GAP + pillarHeight / 2; // The y-coordinate for the base of the pillar
+
+        for (int i = 0; i < 2; i++) {
+            BodyDef pillarDef = new BodyDef();
+            pillarDef.type = BodyDef.BodyType.DynamicBody;
+            // Place at edges of the plank
+            pillarDef.position.set(plankBody.getPosition().x + ((i == 0 ? -1 : 1) * 50 / PPM), pillarBaseY);
+
+            Body pillarBody = world.createBody(pillarDef);
+
+            PolygonShape pillarShape = new PolygonShape();
+            pillarShape.setAsBox(10 / PPM, pillarHeight / 2);
+
+            FixtureDef pillarFixture = new FixtureDef();
+            pillarFixture.shape = pillarShape;
+            pillarFixture.density = 0.5f;
+            pillarFixture.restitution = 0.3f;
+            pillarFixture.friction = 0.5f;
+
+            pillarBody.createFixture(pillarFixture);
+            pillarShape.dispose();
+
+            pillarBodies.add(pillarBody);
+        }
+    }
+
+    void createPigsOnPillars() {
+        if (pillarBodies.isEmpty()) {
+            System.err.println("No pillars available to place pigs on.");
+            return;
+        }
+
+        float pigRadius = 15 / PPM; // Radius of the pig
+        float plankTopY = plankBody.getPosition().y + (10 / PPM) / 2; // Top Y-position of the plank
+        // From the pillar's center to a pig resting on its top; a pig spawned inside is thrown off
+        float pigOffset = (75 / PPM) / 2 + pigRadius;
+
+        for (Body pillarBody : pillarBodies) {
+            Vector2 pillarPosition = pillarBody.getPosition();
+
+            // Check if the pillar is above the plank
+            if (pillarPosition.y > plankTopY) {
+                // Set the Y position of the pig to be above the pillar
+                float pigPositionY = pillarPosition.y + pigOffset; // Position the pig on top of the pillar
+
+                BodyDef pigDef = new BodyDef();
+                pigDef.type = BodyDef.BodyType.DynamicBody;
+                pigDef.position.set(pillarPosition.x, pigPositionY); // Use the calculated Y position
+
+                Body pigBody = world.createBody(pigDef);
+                CircleShape pigShape = new CircleShape();
+                pigShape.setRadius(pigRadius);
+
+                FixtureDef pigFixture = new FixtureDef();
+                pigFixture.shape = pigShape;
+                pigFixture.density = 0.5f;
+                pigFixture.restitution = 0f;
+                pigFixture.friction = 100f; // Increase friction
+
+                pigBody.createFixture(pigFixture);
+                pigShape.dispose();
+
+                pigBodies.add(pigBody);
+            }
+        }
+    }
+
+    /**
+     * A pig that comes into contact with a pillar gets pushed upwards. Only armed pigs are
+     * pushed, ones that have come to rest since they were spawned, so the contacts of the
+     * pigs being set on their pillars do not throw them off before anything was hit.
+     */
+    @Override
+    public boolean onBeginContact(Body bodyA, Body bodyB) {
+        Object userDataA = bodyA.getUserData();
+        Object userDataB = bodyB.getUserData();
+
+        // Check if one of the bodies is a pig
+        boolean isPigA = userDataA instanceof Pig;
+        boolean isPigB = userDataB instanceof Pig;
+
+        if (isPigA || isPigB) {
+            Body pigBody = isPigA ? bodyA : bodyB;
+            Body otherBody = isPigA ? bodyB : bodyA;
+
+            // Check if the other body is a pillar
+            if (otherBody.getUserData() instanceof Pillar && ((Pig) pigBody.getUserData()).armed) {
+                // Apply upward force to the pig
+                pigBody.setType(BodyDef.BodyType.DynamicBody);
+                pigBody.applyForceToCenter(0, 10f, true);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,937 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.*;
+
+/**
+ * The physics side of a level: the Box2D world and every body in it, with no textures,
+ * camera or other GL state. Screens render and drive a LevelWorld; benchmarks and tools
+ * can build one headless.
+ */
+public abstract class LevelWorld implements Disposable {
+
+    /** Gets the level's contacts after each step, once the level's own rules have seen them. */
+    public interface ContactHandler {
+        /**
+         * @param type {@link ContactEventQueue#BEGIN}, {@link ContactEventQueue#END}, or
+         *             {@link ContactEventQueue#OVERFLOW} with null bodies if some were lost
+         * @param changed whether {@link #onBeginContact} changed a body in reaction
+         */
+        void onContact(byte type, Body bodyA, Body bodyB, boolean changed);
+    }
+
+    /**
+     * Told about bodies that were pushed without a contact starting or ending on them: each
+     * body a blast or shockwave hits, and once per step each {@link Destructible} the solver
+     * pushed, e.g. a pillar that tips over or was woken by the body it rests on.
+     */
+    public interface PushListener {
+        void onPushed(Body body);
+    }
+
+    // Pixels per meter
+    static final float PPM = 100;
+
+    // Distance Box2D keeps between two resting polygons, their 0.01 m skins less its 0.005 m
+    // slop. Bodies stacked closer are pushed apart on the first step and start out rocking.
+    static final float RESTING_GAP = 0.015f;
+
+    // Slingshot platform size in meters
+    static final float PLATFORM_WIDTH = 0.1f;
+    static final float PLATFORM_HEIGHT = 2.0f;
+
+    // Slingshot reach and strength
+    static final float GRAB_RADIUS = 20 / PPM;
+    static final float MAX_DRAG_DISTANCE = 50 / PPM;
+    static final float LAUNCH_IMPULSE_SCALE = 0.45f;
+
+    // Box2D has no rolling resistance: without damping a bird on the ground keeps rolling
+    // just above the sleep tolerance and never falls asleep
+    static final float BIRD_ANGULAR_DAMPING = 2f;
+
+    // Collision filter of a launched bird: it passes through the platform (category 0x0002)
+    static final short LAUNCHED_CATEGORY = 0x0001;
+    static final short LAUNCHED_MASK = ~(0x0002);
+
+    // Explosive bird: impulse at the blast center, falling off linearly to zero at the radius
+    static final float BLAST_RADIUS = 1.5f;
+    static final float BLAST_IMPULSE = 0.5f;
+
+    // Shockwave: a ring growing from its origin that pushes each body once as it passes
+    static final float SHOCKWAVE_SPEED = 6f;
+    static final float SHOCKWAVE_MAX_RADIUS = 3f;
+    static final float SHOCKWAVE_IMPULSE = 0.2f;
+
+    public final World world;
+    public final SpatialQuery query;
+    public final DamageModel damage;
+    public final ContactEventQueue contacts = new ContactEventQueue();
+    private ContactHandler contactHandler;
+    private PushListener pushListener;
+    private final ContactEventQueue.Handler dispatchContact = this::dispatchContact;
+    // Set while a body is being destroyed, so the end of its contacts is not queued
+    private boolean destroying = false;
+
+    // Slingshot and bird
+    public Body birdBody;
+    public Body platformBody;
+    public Body groundBody;
+    public Vector2 slingshotBase;
+
+    // Birds of the level in firing order, and one pooled body per bird type in the queue
+    private BirdType[] birdQueue;
+    // Volatile so the render thread can read the queue while the world steps elsewhere
+    private volatile int birdIndex = 0;
+    private final Map<BirdType, Body> birdPool = new EnumMap<>(BirdType.class);
+
+    // List of bodies
+    public final List<Body> pigBodies = new ArrayList<>();
+    public final List<Body> pillarBodies = new ArrayList<>();
+
+    // Other drawable bodies such as planks, with their atlas region and draw size in pixels
+    public final List<Body> blockBodies = new ArrayList<>();
+    private final List<String> blockRegions = new ArrayList<>();
+    private float[] blockSizes = new float[16];
+
+    // Scratch objects so dragging and launching the bird allocate nothing
+    private final Vector2 dragPosition = new Vector2();
+    private final Vector2 launchImpulse = new Vector2();
+    private final Filter launchFilter = new Filter();
+
+    // Shockwave in progress; a negative radius means there is none
+    private final Vector2 shockwaveOrigin = new Vector2();
+    private float shockwaveRadius = -1;
+
+    // Starting state of every body, recorded once by build() and restored by restart()
+    private final List<BodyState> initialStates = new ArrayList<>();
+    private final Map<Body, BodyState> statesByBody = new IdentityHashMap<>();
+    private BodyState birdState;
+    private BodyState platformState;
+    private BodyState groundState;
+    private BodyState[] pigStates;
+    private BodyState[] pillarStates;
+
+    protected LevelWorld(float gravityY) {
+        this(0, gravityY);
+    }
+
+    protected LevelWorld(float gravityX, float gravityY) {
+        Box2D.init();
+        world = new World(new Vector2(gravityX, gravityY), true);
+        query = new SpatialQuery(world);
+        damage = new DamageModel(this);
+        world.setContactListener(new QueueingContactListener());
+    }
+
+    /** Creates every body of the level and records its starting state for {@link #restart()}. */
+    public final void build() {
+        birdQueue = createBirdQueue();
+        createBodies();
+        createBirdPool();
+        tagDestructibles();
+        recordInitialState();
+        findContactsAsleep();
+    }
+
+    /** Creates the platform, ground, bird and the level's structure. */
+    protected void createBodies() {
+        createPlatform();
+        createGround();
+        initializeBird();
+        createStructure();
+    }
+
+    /** Creates the level's pillars, planks and pigs. */
+    protected abstract void createStructure();
+
+    /** Birds the player gets, in firing order. */
+    protected BirdType[] createBirdQueue() {
+        return new BirdType[] {BirdType.RED, BirdType.RED, BirdType.RED};
+    }
+
+    /** Half width of the ground in meters. */
+    protected float groundHalfWidth() {
+        return 1000 / PPM;
+    }
+
+    private void createPlatform() {
+        BodyDef postDef = new BodyDef();
+        postDef.type = BodyDef.BodyType.StaticBody;
+        postDef.position.set(1, 0);
+        platformBody = world.createBody(postDef);
+
+        PolygonShape platformShape = new PolygonShape();
+        platformShape.setAsBox(PLATFORM_WIDTH / 2, PLATFORM_HEIGHT / 2);
+        FixtureDef platformFixture = new FixtureDef();
+        platformFixture.shape = platformShape;
+        platformFixture.friction = 0.5f;
+        platformFixture.restitution = 0.1f;
+        platformFixture.filter.categoryBits = 0x0002;
+        platformBody.createFixture(platformFixture);
+        platformShape.dispose();
+    }
+
+    private void createGround() {
+        BodyDef groundBodyDef = new BodyDef();
+        groundBodyDef.type = BodyDef.BodyType.StaticBody;
+        groundBodyDef.position.set(0, -10 / PPM);
+        groundBody = world.createBody(groundBodyDef);
+
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(groundHalfWidth(), 10 / PPM);
+
+        groundBody.createFixture(groundShape, 0);
+        groundShape.dispose();
+    }
+
+    private void initializeBird() {
+        slingshotBase = new Vector2(
+            platformBody.getPosition().x,
+            platformBody.getPosition().y + (PLATFORM_HEIGHT / 2) + (10 / PPM)
+        );
+
+        birdBody = createBird(birdQueue[0]);
+    }
+
+    private Body createBird(BirdType type) {
+        BodyDef birdDef = new BodyDef();
+        birdDef.type = BodyDef.BodyType.DynamicBody;
+        birdDef.position.set(slingshotBase);
+        birdDef.angularDamping = BIRD_ANGULAR_DAMPING;
+
+        Body body = world.createBody(birdDef);
+
+        CircleShape birdShape = new CircleShape();
+        birdShape.setRadius(type.radius / PPM);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = birdShape;
+        fixtureDef.density = type.density;
+        fixtureDef.restitution = type.restitution;
+        body.createFixture(fixtureDef);
+        birdShape.dispose();
+        return body;
+    }
+
+    /**
+     * Creates one body for every other bird type in the queue, parked inactive on the
+     * slingshot. The bird the level created serves as the first type, so a level file's
+     * own bird keeps its shape.
+     */
+    private void createBirdPool() {
+        birdPool.put(birdQueue[0], birdBody);
+        for (BirdType type : birdQueue) {
+            if (!birdPool.containsKey(type)) {
+                Body body = createBird(type);
+                park(body);
+                birdPool.put(type, body);
+            }
+        }
+    }
+
+    /**
+     * Switches a bird off where it is. It is also stopped and put to sleep, so a bird parked
+     * while still rolling leaves no motion behind for the {@link SettleDetector} to wait on.
+     */
+    private static void park(Body bird) {
+        bird.setActive(false);
+        bird.setLinearVelocity(0, 0);
+        bird.setAngularVelocity(0);
+        bird.setAwake(false);
+    }
+
+    public BirdType getBirdType() {
+        return birdQueue[birdIndex];
+    }
+
+    /** Birds still waiting after the one on the slingshot or in the air. */
+    public int getBirdsLeft() {
+        return birdQueue.length - birdIndex - 1;
+    }
+
+    /** Type of the {@code i}th waiting bird, 0 being the next one. */
+    public BirdType getWaitingBird(int i) {
+        return birdQueue[birdIndex + 1 + i];
+    }
+
+    /**
+     * Puts the next bird of the queue on the slingshot. Its pooled body is moved back in
+     * place with its velocity cleared and its collision filter restored; a launched bird of
+     * another type is parked. No body is created or destroyed. Must not be called
+     * while the world is stepping.
+     *
+     * @return false if no bird is left
+     */
+    public boolean nextBird() {
+        if (getBirdsLeft() == 0) {
+            return false;
+        }
+        birdIndex++;
+        Body next = birdPool.get(birdQueue[birdIndex]);
+        if (next != birdBody) {
+            park(birdBody);
+        }
+        birdBody = next;
+        statesByBody.get(next).restore();
+        next.setActive(true);
+        next.setAwake(true);
+        dragPosition.set(slingshotBase);
+        launchImpulse.setZero();
+        return true;
+    }
+
+    protected void addBlock(Body body, String region, float drawWidth, float drawHeight) {
+        int i = blockBodies.size();
+        if (blockSizes.length < (i + 1) * 2) {
+            blockSizes = Arrays.copyOf(blockSizes, blockSizes.length * 2);
+        }
+        blockBodies.add(body);
+        blockRegions.add(region);
+        blockSizes[i * 2] = drawWidth;
+        blockSizes[i * 2 + 1] = drawHeight;
+    }
+
+    public String blockRegion(int i) {
+        return blockRegions.get(i);
+    }
+
+    public float blockDrawWidth(int i) {
+        return blockSizes[i * 2];
+    }
+
+    public float blockDrawHeight(int i) {
+        return blockSizes[i * 2 + 1];
+    }
+
+    /** Creates the same upright wooden pillars as the first level, {@code count} of them. */
+    protected void createPillars(int count) {
+        for (int i = 0; i < count; i++) {
+            BodyDef pillarDef = new BodyDef();
+            pillarDef.type = BodyDef.BodyType.DynamicBody;
+            pillarDef.position.set((200 + 100 * (i + 1)) / PPM, 75 / PPM + RESTING_GAP);
+
+            Body pillarBody = world.createBody(pillarDef);
+
+            PolygonShape pillarShape = new PolygonShape();
+            pillarShape.setAsBox(5 / PPM, 75 / PPM);
+
+            FixtureDef pillarFixture = new FixtureDef();
+            pillarFixture.shape = pillarShape;
+            pillarFixture.density = 1f;
+            pillarFixture.restitution = 0.3f;
+
+            pillarBody.createFixture(pillarFixture);
+            pillarShape.dispose();
+
+            pillarBodies.add(pillarBody);
+        }
+    }
+
+    /** Whether a press at the given point in meters picks up the bird. */
+    public boolean canGrabBird(float x, float y) {
+        return birdBody.getPosition().dst(x, y) < GRAB_RADIUS;
+    }
+
+    /**
+     * Moves the bird to the drag point, kept within the slingshot's reach and inside
+     * {@code (0, 0)-(maxX, maxY)}.
+     */
+    public void dragBird(float x, float y, float maxX, float maxY) {
+        dragPosition.set(x, y);
+
+        if (dragPosition.dst(slingshotBase) > MAX_DRAG_DISTANCE) {
+            dragPosition.sub(slingshotBase).nor().scl(MAX_DRAG_DISTANCE).add(slingshotBase);
+        }
+
+        dragPosition.x = Math.max(0, Math.min(maxX, dragPosition.x));
+        dragPosition.y = Math.max(0, Math.min(maxY, dragPosition.y));
+        placeBird(dragPosition.x, dragPosition.y);
+    }
+
+    /** Puts the bird at a drag position that has already been limited, e.g. one from a recording. */
+    public void placeBird(float x, float y) {
+        dragPosition.set(x, y);
+        birdBody.setTransform(dragPosition, birdBody.getAngle());
+    }
+
+    public Vector2 getDragPosition() {
+        return dragPosition;
+    }
+
+    /** Impulse applied by the last {@link #launchBird()}. */
+    public Vector2 getLaunchImpulse() {
+        return launchImpulse;
+    }
+
+    /** Fires the bird from the last drag position and lets it pass through the platform. */
+    public void launchBird() {
+        launchImpulse.set(slingshotBase).sub(dragPosition).scl(LAUNCH_IMPULSE_SCALE);
+        birdBody.applyLinearImpulse(launchImpulse, birdBody.getWorldCenter(), true);
+
+        launchFilter.categoryBits = LAUNCHED_CATEGORY;
+        launchFilter.maskBits = LAUNCHED_MASK;
+
+        Array<Fixture> fixtures = birdBody.getFixtureList();
+        for (int i = 0; i < fixtures.size; i++) {
+            fixtures.get(i).setFilterData(launchFilter);
+        }
+    }
+
+    /** Blows the bird up where it is, see {@link #explode}. */
+    public int explodeBird() {
+        Vector2 position = birdBody.getPosition();
+        return explode(position.x, position.y, BLAST_RADIUS, BLAST_IMPULSE, birdBody);
+    }
+
+    /**
+     * Pushes every dynamic body whose center lies within {@code radius} of the blast away from
+     * it, unless the ground or another static body is in between. Only the bodies the world's
+     * broad phase finds near the blast are looked at.
+     *
+     * @param source body at the center of the blast that is not pushed itself, or null
+     * @return the number of bodies pushed
+     */
+    public int explode(float x, float y, float radius, float impulse, Body source) {
+        int count = query.queryRadius(x, y, radius);
+        int pushed = 0;
+        for (int i = 0; i < count; i++) {
+            Body body = query.result(i);
+            if (body == source || body.getType() != BodyDef.BodyType.DynamicBody) {
+                continue;
+            }
+            Vector2 center = body.getWorldCenter();
+            float centerX = center.x;
+            float centerY = center.y;
+            if (query.hasLineOfSight(x, y, centerX, centerY)
+                    && pushAway(body, x, y, centerX, centerY, impulse * (1 - distance(x, y, centerX, centerY) / radius))) {
+                pushed++;
+            }
+        }
+        return pushed;
+    }
+
+    /** Starts a shockwave ring at the bird; {@link #updateShockwave(float)} moves it outwards. */
+    public void startShockwave() {
+        shockwaveOrigin.set(birdBody.getPosition());
+        shockwaveRadius = 0;
+    }
+
+    public boolean isShockwaveActive() {
+        return shockwaveRadius >= 0;
+    }
+
+    /**
+     * Grows the shockwave by {@code delta} seconds and pushes the dynamic bodies the ring
+     * passed over in that time. Each body is pushed once, when the ring reaches it.
+     *
+     * @return the number of bodies pushed
+     */
+    public int updateShockwave(float delta) {
+        if (shockwaveRadius < 0 || delta <= 0) {
+            return 0;
+        }
+        float inner = shockwaveRadius;
+        float outer = Math.min(SHOCKWAVE_MAX_RADIUS, inner + SHOCKWAVE_SPEED * delta);
+        float x = shockwaveOrigin.x;
+        float y = shockwaveOrigin.y;
+
+        int count = query.queryRadius(x, y, outer);
+        int pushed = 0;
+        for (int i = 0; i < count; i++) {
+            Body body = query.result(i);
+            if (body == birdBody || body.getType() != BodyDef.BodyType.DynamicBody) {
+                continue;
+            }
+            Vector2 center = body.getWorldCenter();
+            float distance = distance(x, y, center.x, center.y);
+            if (distance > inner || inner == 0) {
+                if (pushAway(body, x, y, center.x, center.y, SHOCKWAVE_IMPULSE * (1 - distance / SHOCKWAVE_MAX_RADIUS))) {
+                    pushed++;
+                }
+            }
+        }
+
+        shockwaveRadius = outer < SHOCKWAVE_MAX_RADIUS ? outer : -1;
+        return pushed;
+    }
+
+    private boolean pushAway(Body body, float fromX, float fromY, float centerX, float centerY, float impulse) {
+        float distance = distance(fromX, fromY, centerX, centerY);
+        if (distance < 0.0001f || impulse <= 0) {
+            return false;
+        }
+        float scale = impulse / distance;
+        body.applyLinearImpulse((centerX - fromX) * scale, (centerY - fromY) * scale, centerX, centerY, true);
+        onPushed(body);
+        return true;
+    }
+
+    private static float distance(float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Hash of the position, angle and velocity of the bird and of every pillar, pig and
+     * block in list order. Two runs of the same inputs on the same build end with the same
+     * checksum.
+     */
+    public long checksum() {
+        long hash = 0xcbf29ce484222325L;
+        hash = hash(hash, birdBody);
+        for (int i = 0; i < pillarBodies.size(); i++) {
+            hash = hash(hash, pillarBodies.get(i));
+        }
+        for (int i = 0; i < pigBodies.size(); i++) {
+            hash = hash(hash, pigBodies.get(i));
+        }
+        for (int i = 0; i < blockBodies.size(); i++) {
+            hash = hash(hash, blockBodies.get(i));
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, Body body) {
+        hash = hash(hash, body.getPosition().x);
+        hash = hash(hash, body.getPosition().y);
+        hash = hash(hash, body.getAngle());
+        hash = hash(hash, body.getLinearVelocity().x);
+        hash = hash(hash, body.getLinearVelocity().y);
+        return hash(hash, body.getAngularVelocity());
+    }
+
+    // FNV-1a over the bits of one float
+    private static long hash(long hash, float value) {
+        int bits = Float.floatToRawIntBits(value);
+        for (int i = 0; i < 4; i++) {
+            hash ^= (bits >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** Full scan over every pillar; {@link ObjectiveTracker} answers the same question in O(1). */
+    public boolean areAllPillarsDestroyed() {
+        for (int i = 0; i < pillarBodies.size(); i++) {
+            if (!isPillarDestroyed(pillarBodies.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Full scan over every pig; {@link ObjectiveTracker} answers the same question in O(1). */
+    public boolean areAllPigsOnGround() {
+        for (int i = 0; i < pigBodies.size(); i++) {
+            if (!isPigOnGround(pigBodies.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** A pillar counts as destroyed once it leans over 45 degrees or has dropped below half a meter. */
+    static boolean isPillarDestroyed(Body pillarBody) {
+        float pillarAngleThreshold = 45.0f;
+        float pillarHeightThreshold = 50.0f / PPM;
+        float angle = Math.abs(pillarBody.getAngle() * 180.0f / (float) Math.PI);
+        float height = pillarBody.getPosition().y;
+        return angle >= pillarAngleThreshold || height <= pillarHeightThreshold;
+    }
+
+    static boolean isPigOnGround(Body pigBody) {
+        float groundLevelThreshold = 10.0f / PPM;
+        return pigBody.getPosition().y <= groundLevelThreshold;
+    }
+
+    /** Gives every pig and pillar its damage data unless the level already set one. */
+    private void tagDestructibles() {
+        for (int i = 0; i < pigBodies.size(); i++) {
+            Body body = pigBodies.get(i);
+            if (!(body.getUserData() instanceof Pig)) {
+                body.setUserData(new Pig());
+            }
+        }
+        for (int i = 0; i < pillarBodies.size(); i++) {
+            Body body = pillarBodies.get(i);
+            if (!(body.getUserData() instanceof Pillar)) {
+                body.setUserData(new Pillar());
+            }
+        }
+        resetDestructibles(pigBodies);
+        resetDestructibles(pillarBodies);
+    }
+
+    private void resetDestructibles(List<Body> bodies) {
+        for (int i = 0; i < bodies.size(); i++) {
+            Destructible data = (Destructible) bodies.get(i).getUserData();
+            data.index = i;
+            data.health = data.material.maxHealth;
+            damage.register(bodies.get(i));
+        }
+    }
+
+    /**
+     * Runs after every world step: handles the step's contacts, applies contact damage,
+     * removes a batch of dead bodies and moves any shockwave on by one step.
+     */
+    public void afterStep() {
+        contacts.drain(dispatchContact);
+        damage.afterStep();
+        updateShockwave(PhysicsClock.STEP);
+    }
+
+    public void setContactHandler(ContactHandler contactHandler) {
+        this.contactHandler = contactHandler;
+    }
+
+    public void setPushListener(PushListener pushListener) {
+        this.pushListener = pushListener;
+    }
+
+    void onPushed(Body body) {
+        if (pushListener != null) {
+            pushListener.onPushed(body);
+        }
+    }
+
+    private void dispatchContact(byte type, Body bodyA, Body bodyB, float impulse) {
+        if (type == ContactEventQueue.IMPULSE) {
+            damage.addImpulse(bodyA, bodyB, impulse);
+            return;
+        }
+        boolean changed = type == ContactEventQueue.BEGIN && onBeginContact(bodyA, bodyB);
+        if (contactHandler != null) {
+            contactHandler.onContact(type, bodyA, bodyB, changed);
+        }
+    }
+
+    /**
+     * Only queues what the solver reports; everything that reacts to it runs in
+     * {@link #afterStep()}, outside the step.
+     */
+    private class QueueingContactListener implements ContactListener {
+        @Override
+        public void beginContact(Contact contact) {
+            if (!destroying) {
+                contacts.push(ContactEventQueue.BEGIN, contact.getFixtureA().getBody(), contact.getFixtureB().getBody(), 0);
+            }
+        }
+
+        @Override
+        public void endContact(Contact contact) {
+            if (!destroying) {
+                contacts.push(ContactEventQueue.END, contact.getFixtureA().getBody(), contact.getFixtureB().getBody(), 0);
+            }
+        }
+
+        @Override
+        public void preSolve(Contact contact, Manifold oldManifold) {}
+
+        @Override
+        public void postSolve(Contact contact, ContactImpulse impulse) {
+            Body bodyA = contact.getFixtureA().getBody();
+            Body bodyB = contact.getFixtureB().getBody();
+            // Only destructible bodies take damage; skip the rest to keep the ring short
+            if (!(bodyA.getUserData() instanceof Destructible) && !(bodyB.getUserData() instanceof Destructible)) {
+                return;
+            }
+            float[] normalImpulses = impulse.getNormalImpulses();
+            float total = 0;
+            for (int i = 0; i < impulse.getCount(); i++) {
+                total += normalImpulses[i];
+            }
+            if (total > 0) {
+                contacts.push(ContactEventQueue.IMPULSE, bodyA, bodyB, total);
+            }
+        }
+    }
+
+    /**
+     * Gameplay reaction to a contact that started during the last step, called from
+     * {@link #afterStep()}, so it may change bodies. Levels with such rules override this.
+     *
+     * @return whether a body was changed
+     */
+    public boolean onBeginContact(Body bodyA, Body bodyB) {
+        return false;
+    }
+
+    /** Name that {@link ShotReplayer} can build this level again from. */
+    public String getId() {
+        return getClass().getSimpleName();
+    }
+
+    private void recordInitialState() {
+        Array<Body> bodies = new Array<>(world.getBodyCount());
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            BodyState state = new BodyState(bodies.get(i));
+            if (state.userData instanceof Destructible) {
+                // Keep the shapes now so destroying the body later allocates nothing
+                state.captureFixtures();
+            }
+            initialStates.add(state);
+            statesByBody.put(state.body, state);
+        }
+        birdState = statesByBody.get(birdBody);
+        platformState = statesByBody.get(platformBody);
+        groundState = statesByBody.get(groundBody);
+        pigStates = statesOf(pigBodies);
+        pillarStates = statesOf(pillarBodies);
+    }
+
+    /**
+     * Lets the world find the contacts of new bodies with an empty step, then puts the bodies
+     * that started asleep back to sleep. Box2D wakes both bodies of every contact it finds,
+     * so a structure laid out asleep would otherwise start moving on its first step.
+     */
+    private void findContactsAsleep() {
+        // Inactive bodies, such as parked birds, have no contacts to find
+        boolean anyAsleep = false;
+        for (int i = 0; i < initialStates.size() && !anyAsleep; i++) {
+            anyAsleep = !initialStates.get(i).awake && initialStates.get(i).active;
+        }
+        if (!anyAsleep) {
+            return;
+        }
+        world.step(0, 0, 0);
+        for (int i = 0; i < initialStates.size(); i++) {
+            BodyState state = initialStates.get(i);
+            if (!state.awake) {
+                state.body.setAwake(false);
+            }
+        }
+        contacts.clear();
+    }
+
+    private BodyState[] statesOf(List<Body> bodies) {
+        BodyState[] states = new BodyState[bodies.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = statesByBody.get(bodies.get(i));
+        }
+        return states;
+    }
+
+    /**
+     * Removes a pig or pillar from the world and from its list in O(1): the last body of
+     * the list takes its place. Its shapes were kept by {@link #build()}, so
+     * {@link #restart()} can bring it back.
+     * Blocks, the birds, the platform and the ground cannot be destroyed. Must not be called
+     * while the world is stepping.
+     */
+    public void destroyBody(Body body) {
+        Object userData = body.getUserData();
+        if (!(userData instanceof Destructible) || !statesByBody.containsKey(body)) {
+            throw new IllegalArgumentException("Only pigs and pillars can be destroyed");
+        }
+        Destructible data = (Destructible) userData;
+        List<Body> bodies = data instanceof Pig ? pigBodies : pillarBodies;
+        int last = bodies.size() - 1;
+        Body moved = bodies.get(last);
+        bodies.set(data.index, moved);
+        ((Destructible) moved.getUserData()).index = data.index;
+        bodies.remove(last);
+        data.index = -1;
+
+        BodyState state = statesByBody.remove(body);
+        damage.forget(body);
+        destroying = true;
+        world.destroyBody(body);
+        destroying = false;
+        state.body = null;
+    }
+
+    /**
+     * Puts every body back where {@link #build()} left it, keeping the world and its bodies:
+     * transforms, velocities, awake and active flags and collision filters are restored in
+     * place, and only bodies removed by {@link #destroyBody(Body)} are created again.
+     *
+     * @return the number of bodies that had to be created again
+     */
+    public int restart() {
+        int recreated = 0;
+        for (int i = 0; i < initialStates.size(); i++) {
+            BodyState state = initialStates.get(i);
+            if (state.body == null) {
+                state.recreate(world);
+                statesByBody.put(state.body, state);
+                recreated++;
+            }
+            state.restore();
+        }
+        if (recreated > 0) {
+            findContactsAsleep();
+        }
+        world.clearForces();
+        contacts.clear();
+        shockwaveRadius = -1;
+
+        birdBody = birdState.body;
+        birdIndex = 0;
+        platformBody = platformState.body;
+        groundBody = groundState.body;
+        if (recreated > 0 || pigBodies.size() != pigStates.length || pillarBodies.size() != pillarStates.length) {
+            refill(pigBodies, pigStates);
+            refill(pillarBodies, pillarStates);
+        }
+        damage.reset();
+        resetDestructibles(pigBodies);
+        resetDestructibles(pillarBodies);
+        dragPosition.set(slingshotBase);
+        launchImpulse.setZero();
+        return recreated;
+    }
+
+    private static void refill(List<Body> bodies, BodyState[] states) {
+        bodies.clear();
+        for (BodyState state : states) {
+            bodies.add(state.body);
+        }
+    }
+
+    /** Transform, velocity, flags and fixture filters of one body as build() created it. */
+    private static class BodyState {
+        Body body;
+        final BodyDef.BodyType type;
+        final float x, y, angle;
+        final float velocityX, velocityY, angularVelocity;
+        final boolean awake, active, fixedRotation, bullet;
+        final Object userData;
+        final short[] filters;
+
+        // Shapes of a destructible body, used to create it again after it was destroyed
+        float[][] vertices;
+        float[] radius, density, friction, restitution;
+        boolean[] sensor;
+
+        BodyState(Body body) {
+            this.body = body;
+            type = body.getType();
+            x = body.getPosition().x;
+            y = body.getPosition().y;
+            angle = body.getAngle();
+            velocityX = body.getLinearVelocity().x;
+            velocityY = body.getLinearVelocity().y;
+            angularVelocity = body.getAngularVelocity();
+            awake = body.isAwake();
+            active = body.isActive();
+            fixedRotation = body.isFixedRotation();
+            bullet = body.isBullet();
+            userData = body.getUserData();
+
+            Array<Fixture> fixtures = body.getFixtureList();
+            filters = new short[fixtures.size * 3];
+            for (int i = 0; i < fixtures.size; i++) {
+                Filter filter = fixtures.get(i).getFilterData();
+                filters[i * 3] = filter.categoryBits;
+                filters[i * 3 + 1] = filter.maskBits;
+                filters[i * 3 + 2] = filter.groupIndex;
+            }
+        }
+
+        void restore() {
+            if (body.getType() != type) {
+                body.setType(type);
+            }
+            body.setActive(active);
+            body.setTransform(x, y, angle);
+            body.setLinearVelocity(velocityX, velocityY);
+            body.setAngularVelocity(angularVelocity);
+            body.setAwake(awake);
+
+            Array<Fixture> fixtures = body.getFixtureList();
+            for (int i = 0; i < fixtures.size; i++) {
+                Fixture fixture = fixtures.get(i);
+                Filter filter = fixture.getFilterData();
+                if (filter.categoryBits != filters[i * 3] || filter.maskBits != filters[i * 3 + 1]
+                        || filter.groupIndex != filters[i * 3 + 2]) {
+                    filter.categoryBits = filters[i * 3];
+                    filter.maskBits = filters[i * 3 + 1];
+                    filter.groupIndex = filters[i * 3 + 2];
+                    fixture.setFilterData(filter);
+                }
+            }
+        }
+
+        void captureFixtures() {
+            Array<Fixture> fixtures = body.getFixtureList();
+            int count = fixtures.size;
+            vertices = new float[count][];
+            radius = new float[count];
+            density = new float[count];
+            friction = new float[count];
+            restitution = new float[count];
+            sensor = new boolean[count];
+            Vector2 vertex = new Vector2();
+            for (int i = 0; i < count; i++) {
+                Fixture fixture = fixtures.get(i);
+                Shape shape = fixture.getShape();
+                if (shape instanceof PolygonShape) {
+                    PolygonShape polygon = (PolygonShape) shape;
+                    vertices[i] = new float[polygon.getVertexCount() * 2];
+                    for (int v = 0; v < polygon.getVertexCount(); v++) {
+                        polygon.getVertex(v, vertex);
+                        vertices[i][v * 2] = vertex.x;
+                        vertices[i][v * 2 + 1] = vertex.y;
+                    }
+                } else if (shape instanceof CircleShape) {
+                    CircleShape circle = (CircleShape) shape;
+                    vertices[i] = new float[] {circle.getPosition().x, circle.getPosition().y};
+                    radius[i] = circle.getRadius();
+                } else {
+                    throw new IllegalArgumentException("Cannot restore a " + shape.getType() + " fixture");
+                }
+                density[i] = fixture.getDensity();
+                friction[i] = fixture.getFriction();
+                restitution[i] = fixture.getRestitution();
+                sensor[i] = fixture.isSensor();
+            }
+        }
+
+        void recreate(World world) {
+            BodyDef def = new BodyDef();
+            def.type = type;
+            def.position.set(x, y);
+            def.angle = angle;
+            def.fixedRotation = fixedRotation;
+            def.bullet = bullet;
+            body = world.createBody(def);
+            body.setUserData(userData);
+
+            FixtureDef fixtureDef = new FixtureDef();
+            for (int i = 0; i < vertices.length; i++) {
+                Shape shape;
+                if (radius[i] > 0) {
+                    CircleShape circle = new CircleShape();
+                    circle.setRadius(radius[i]);
+                    circle.setPosition(new Vector2(vertices[i][0], vertices[i][1]));
+                    shape = circle;
+                } else {
+                    PolygonShape polygon = new PolygonShape();
+                    polygon.set(vertices[i]);
+                    shape = polygon;
+                }
+                fixtureDef.shape = shape;
+                fixtureDef.density = density[i];
+                fixtureDef.friction = friction[i];
+                fixtureDef.restitution = restitution[i];
+                fixtureDef.isSensor = sensor[i];
+                fixtureDef.filter.categoryBits = filters[i * 3];
+                fixtureDef.filter.maskBits = filters[i * 3 + 1];
+                fixtureDef.filter.groupIndex = filters[i * 3 + 2];
+                body.createFixture(fixtureDef);
+                shape.dispose();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+    }
+}
@@ -1,28 +1,86 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.io.IOException;
 
 public class MainGame extends Game {
     public SpriteBatch batch;
+    public AssetCache assets;
+    public EventLog log;
+    public FrameTimings timings;
+    public PhysicsDebugOverlay debugOverlay;
+    public BlockRenderer blocks;
+
+    // Draw calls and texture binds issued during the last frame, counted only while the
+    // frame timing overlay shows them
+    public int renderCalls;
+    public int textureBindings;
+    private GLProfiler profiler;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
+        blocks = new BlockRenderer();
+        assets = new AssetCache();
+        log = new EventLog(4096, EventLog.Level.INFO, System.out);
+        timings = new FrameTimings();
+        debugOverlay = new PhysicsDebugOverlay();
+        profiler = new GLProfiler(Gdx.graphics);
         this.setScreen(new StartMenuScreen(this));
     }
 
     @Override
     public void render() {
         super.render(); // Important!
+
+        // The profiler intercepts every GL call, so it runs only while F3 shows the overlay
+        if (timings.isOverlayVisible() != profiler.isEnabled()) {
+            if (profiler.isEnabled()) {
+                profiler.disable();
+            } else {
+                profiler.enable();
+            }
+        }
+        renderCalls = profiler.getDrawCalls();
+        textureBindings = profiler.getTextureBindings();
+        profiler.reset();
     }
 
     @Override
     public void dispose() {
+        profiler.disable();
+        try {
+            timings.write("frame-timings");
+        } catch (IOException e) {
+            Gdx.app.error("MainGame", "Could not write frame timings", e);
+        }
+        timings.dispose();
+        debugOverlay.dispose();
+        blocks.dispose();
         batch.dispose();
+        assets.dispose();
+        log.dispose();
     }
 
     public void startGame() {
         this.setScreen(new GameScreen(this));
     }
+
+    /** Starts a level of generated structures; the same seed always gives the same level. */
+    public void startGeneratedLevel(long seed, int bodyCount) {
+        this.setScreen(new GameScreen(this, new GeneratedLevelWorld(seed, bodyCount)));
+    }
+
+    /** Starts a level compiled by LevelCompiler, e.g. "levels/level1.lvl". */
+    public void startLevel(String levelFile) {
+        try {
+            this.setScreen(new GameScreen(this, CompiledLevelWorld.load(Gdx.files.internal(levelFile).file())));
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Cannot load level " + levelFile, e);
+        }
+    }
 }
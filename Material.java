@@ -0,0 +1,23 @@
+package io.github.some_example_name;
+
+/**
+ * What a pig or pillar is made of. Contact impulses up to {@link #damageThreshold} per
+ * physics step above the body's resting load do no harm, so gentle nudges never wear a
+ * body down; anything above it is taken off the body's health. See {@link DamageModel}.
+ */
+public enum Material {
+    WOOD(0.5f, 0.05f),
+    STONE(2.0f, 0.2f),
+    GLASS(0.15f, 0.02f),
+    FLESH(0.2f, 0.03f);
+
+    // Health of a fresh body, in N*s of impulse above the threshold
+    public final float maxHealth;
+    // Impulse per step a body shrugs off, in N*s
+    public final float damageThreshold;
+
+    Material(float maxHealth, float damageThreshold) {
+        this.maxHealth = maxHealth;
+        this.damageThreshold = damageThreshold;
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import java.util.*;
+
+/**
+ * Keeps the level's win conditions up to date incrementally, so asking whether the level
+ * is won costs O(1) instead of a scan over every body.
+ * A pillar or pig is only re-examined while it is "active": from a contact starting or
+ * ending on it, or from being pushed, until it has fallen asleep. Pushes cover the bodies
+ * that wake without a contact event, e.g. from a blast or when the body under them tips.
+ * Sleeping bodies cannot move, so their last known state stays valid. A pillar or pig
+ * destroyed by the damage model counts as done.
+ */
+public class ObjectiveTracker {
+
+    // Slot of each tracked body: pillars first, then pigs
+    private final Map<Body, Integer> slots = new IdentityHashMap<>();
+    private final Body[] bodies;
+    private final boolean[] satisfied;
+    private final boolean[] destroyed;
+    private final int pillarCount;
+    private final int pigCount;
+
+    // Bodies to re-examine after the next step
+    private final int[] active;
+    private final boolean[] isActive;
+    private int activeCount = 0;
+
+    private int pillarsDestroyed = 0;
+    private int pigsOnGround = 0;
+
+    public ObjectiveTracker(List<Body> pillarBodies, List<Body> pigBodies) {
+        pillarCount = pillarBodies.size();
+        pigCount = pigBodies.size();
+        int count = pillarCount + pigCount;
+        bodies = new Body[count];
+        satisfied = new boolean[count];
+        destroyed = new boolean[count];
+        active = new int[count];
+        isActive = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            bodies[i] = i < pillarCount ? pillarBodies.get(i) : pigBodies.get(i - pillarCount);
+            slots.put(bodies[i], i);
+        }
+        refreshAll();
+    }
+
+    /** Marks both bodies of a starting or ending contact for re-examination. */
+    public void onContact(Body bodyA, Body bodyB) {
+        activate(bodyA);
+        activate(bodyB);
+    }
+
+    /** Marks a body that a blast or the solver pushed for re-examination. */
+    public void onPushed(Body body) {
+        activate(body);
+    }
+
+    private void activate(Body body) {
+        Integer slot = slots.get(body);
+        if (slot != null && !isActive[slot]) {
+            isActive[slot] = true;
+            active[activeCount++] = slot;
+        }
+    }
+
+    /** Counts a body that is about to be removed from the world as destroyed or on the ground. */
+    public void onDestroyed(Body body) {
+        Integer slot = slots.remove(body);
+        if (slot == null) {
+            return;
+        }
+        destroyed[slot] = true;
+        bodies[slot] = null;
+        setSatisfied(slot, true);
+    }
+
+    /** Re-examines the active bodies; call once after the physics world has been stepped. */
+    public void update() {
+        int i = 0;
+        while (i < activeCount) {
+            int slot = active[i];
+            evaluate(slot);
+            if (!destroyed[slot] && bodies[slot].isAwake()) {
+                i++;
+            } else {
+                // Asleep: its state is final until something touches it again
+                isActive[slot] = false;
+                active[i] = active[--activeCount];
+            }
+        }
+    }
+
+    /** Re-examines every tracked body and makes all of them active again. */
+    public void refreshAll() {
+        activeCount = 0;
+        for (int slot = 0; slot < bodies.length; slot++) {
+            if (destroyed[slot]) {
+                continue;
+            }
+            evaluate(slot);
+            isActive[slot] = true;
+            active[activeCount++] = slot;
+        }
+    }
+
+    private void evaluate(int slot) {
+        if (destroyed[slot]) {
+            return;
+        }
+        boolean isPillar = slot < pillarCount;
+        setSatisfied(slot, isPillar ? LevelWorld.isPillarDestroyed(bodies[slot]) : LevelWorld.isPigOnGround(bodies[slot]));
+    }
+
+    private void setSatisfied(int slot, boolean now) {
+        if (now != satisfied[slot]) {
+            satisfied[slot] = now;
+            int change = now ? 1 : -1;
+            if (slot < pillarCount) {
+                pillarsDestroyed += change;
+            } else {
+                pigsOnGround += change;
+            }
+        }
+    }
+
+    public boolean areAllPillarsDestroyed() {
+        return pillarsDestroyed == pillarCount;
+    }
+
+    public boolean areAllPigsOnGround() {
+        return pigsOnGround == pigCount;
+    }
+
+    public int getPillarsDestroyed() {
+        return pillarsDestroyed;
+    }
+
+    public int getPigsOnGround() {
+        return pigsOnGround;
+    }
+
+    public boolean isLevelWon() {
+        return areAllPillarsDestroyed() || areAllPigsOnGround();
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+}
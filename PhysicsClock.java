@@ -0,0 +1,299 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Steps a Box2D world at a fixed rate independent of the render frame rate.
+ * Frame time is collected in an accumulator and consumed in whole {@link #STEP}s, with at
+ * most {@code maxSubSteps} steps per frame so a slow frame cannot snowball into ever longer
+ * frames. Tracked bodies remember their transform before and after the last step so the
+ * renderer can draw them interpolated.
+ * <p>
+ * After every batch of steps the transforms of all tracked groups are copied into a
+ * triple-buffered {@link Snapshot}. The renderer calls {@link #acquire()} once per frame
+ * and then reads only that snapshot, so the clock may run on another thread, see
+ * {@link PhysicsThread}. Stepping and publishing belong to one thread, acquiring and
+ * reading to one other, or both to the same.
+ */
+public class PhysicsClock {
+
+    public static final float STEP = 1 / 60f;
+    static final int VELOCITY_ITERATIONS = 6;
+    static final int POSITION_ITERATIONS = 2;
+
+    // Longest frame we try to catch up on, e.g. after a window drag or breakpoint
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private final World world;
+    private final int maxSubSteps;
+    private final List<InterpolatedBodies> groups = new ArrayList<>();
+    private final List<Runnable> stepListeners = new ArrayList<>();
+
+    private float accumulator = 0;
+    private float alpha = 1;
+    private int stepsLastFrame = 0;
+    private long totalSteps = 0;
+
+    // Triple buffer: the stepping side fills back and swaps it into ready, the drawing side
+    // swaps ready into front whenever it holds a newer snapshot
+    private Snapshot back = new Snapshot();
+    private final AtomicReference<Snapshot> ready = new AtomicReference<>(new Snapshot());
+    private long published = 0;
+    private Snapshot front = new Snapshot();
+    private float renderAlpha = 1;
+
+    public PhysicsClock(World world, int maxSubSteps) {
+        this.world = world;
+        this.maxSubSteps = maxSubSteps;
+    }
+
+    /** Registers a body list whose transforms should be interpolated for rendering. */
+    public InterpolatedBodies track(List<Body> bodies) {
+        InterpolatedBodies group = new InterpolatedBodies(bodies, groups.size());
+        groups.add(group);
+        group.snap();
+        // Size all three snapshots now, so swapping them in during play allocates nothing.
+        // Groups are tracked while the level is set up, before anything acquires.
+        int size = snapshotSize();
+        back.reserve(groups.size(), size);
+        ready.get().reserve(groups.size(), size);
+        front.reserve(groups.size(), size);
+        return group;
+    }
+
+    /** Registers work to run right after every world step, outside the world's callbacks. */
+    public void addStepListener(Runnable listener) {
+        stepListeners.add(listener);
+    }
+
+    /** Adds the frame time to the accumulator and runs as many fixed steps as it covers. */
+    public int advance(float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+
+        int steps = (int) (accumulator / STEP);
+        if (steps > maxSubSteps) {
+            // Drop the time we cannot simulate rather than falling further behind
+            steps = maxSubSteps;
+            accumulator = steps * STEP + (accumulator % STEP);
+        }
+
+        accumulator -= steps * STEP;
+        runSteps(steps);
+        alpha = accumulator / STEP;
+        return steps;
+    }
+
+    /**
+     * Runs {@code steps} fixed steps right away regardless of the frame time, so only every
+     * {@code steps}-th simulated state is drawn. Used to play out the rest of a shot quickly.
+     */
+    public int fastForward(int steps) {
+        accumulator = 0;
+        runSteps(steps);
+        alpha = 1;
+        return steps;
+    }
+
+    private void runSteps(int steps) {
+        for (int i = 0; i < steps; i++) {
+            if (i == steps - 1) {
+                capture(false);
+            }
+            world.step(STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            // Counted before the listeners, so what they record is keyed by the step just run
+            totalSteps++;
+            for (int l = 0; l < stepListeners.size(); l++) {
+                stepListeners.get(l).run();
+            }
+        }
+        if (steps > 0) {
+            capture(true);
+        }
+        stepsLastFrame = steps;
+        publish();
+    }
+
+    /** Drops any banked frame time and snaps every tracked group, e.g. after a level restart. */
+    public void reset() {
+        accumulator = 0;
+        alpha = 1;
+        for (int i = 0; i < groups.size(); i++) {
+            groups.get(i).capture(false);
+            groups.get(i).capture(true);
+        }
+        publish();
+    }
+
+    private void capture(boolean current) {
+        for (int i = 0; i < groups.size(); i++) {
+            groups.get(i).capture(current);
+        }
+    }
+
+    /** Copies every group's transforms into the back snapshot and hands it to the drawing side. */
+    private void publish() {
+        Snapshot snapshot = back;
+        int groupCount = groups.size();
+        snapshot.reserve(groupCount, snapshotSize());
+        int size = 0;
+        for (int i = 0; i < groupCount; i++) {
+            snapshot.offsets[i] = size;
+            snapshot.counts[i] = groups.get(i).count;
+            size += groups.get(i).count * 3;
+        }
+        for (int i = 0; i < groupCount; i++) {
+            InterpolatedBodies group = groups.get(i);
+            System.arraycopy(group.previous, 0, snapshot.previous, snapshot.offsets[i], group.count * 3);
+            System.arraycopy(group.current, 0, snapshot.current, snapshot.offsets[i], group.count * 3);
+        }
+        snapshot.alpha = alpha;
+        snapshot.time = System.nanoTime();
+        snapshot.sequence = ++published;
+        back = ready.getAndSet(snapshot);
+    }
+
+    // Floats a snapshot needs for the groups as last captured
+    private int snapshotSize() {
+        int size = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            size += groups.get(i).count * 3;
+        }
+        return size;
+    }
+
+    /**
+     * Makes the newest published snapshot the one the groups read, and sets how far to
+     * blend it: the clock's alpha when it was published plus the time that has passed since,
+     * so a clock running on another thread still moves smoothly between two steps. Call once
+     * per frame before drawing.
+     */
+    public void acquire() {
+        if (ready.get().sequence > front.sequence) {
+            front = ready.getAndSet(front);
+        }
+        float sincePublished = (System.nanoTime() - front.time) / 1e9f / STEP;
+        renderAlpha = Math.min(1, front.alpha + sincePublished);
+    }
+
+    /** Fraction of a step the clock lies past the last simulated step, in [0, 1). */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public int getStepsLastFrame() {
+        return stepsLastFrame;
+    }
+
+    /** Steps run since the clock was created; inside a step listener, including the step just run. */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Transforms of every tracked group as of one batch of steps, x, y and angle per body,
+     * each group at its own offset. Never changed while the drawing side holds it.
+     */
+    static final class Snapshot {
+        float[] previous = new float[0];
+        float[] current = new float[0];
+        int[] offsets = new int[0];
+        int[] counts = new int[0];
+        float alpha = 1;
+        long time = System.nanoTime();
+        long sequence = 0;
+
+        void reserve(int groupCount, int size) {
+            if (offsets.length < groupCount) {
+                offsets = new int[groupCount];
+                counts = new int[groupCount];
+            }
+            if (previous.length < size) {
+                int capacity = Math.max(size, previous.length * 2);
+                previous = new float[capacity];
+                current = new float[capacity];
+            }
+        }
+    }
+
+    /**
+     * Previous and current transforms of a list of bodies, stored in primitive arrays and
+     * indexed like the list. Reading them costs no JNI calls: the accessors read the
+     * snapshot taken by the last {@link #acquire()}, never the bodies or the list.
+     */
+    public class InterpolatedBodies {
+        private final List<Body> bodies;
+        private final int index;
+        private Body[] owners = new Body[0];
+        private float[] previous = new float[0];
+        private float[] current = new float[0];
+        private int count = 0;
+
+        InterpolatedBodies(List<Body> bodies, int index) {
+            this.bodies = bodies;
+            this.index = index;
+        }
+
+        void capture(boolean intoCurrent) {
+            count = bodies.size();
+            if (owners.length < count) {
+                int capacity = Math.max(count, owners.length * 2);
+                owners = Arrays.copyOf(owners, capacity);
+                previous = Arrays.copyOf(previous, capacity * 3);
+                current = Arrays.copyOf(current, capacity * 3);
+            }
+            float[] target = intoCurrent ? current : previous;
+            for (int i = 0; i < count; i++) {
+                Body body = bodies.get(i);
+                int o = i * 3;
+                target[o] = body.getPosition().x;
+                target[o + 1] = body.getPosition().y;
+                target[o + 2] = body.getAngle();
+                if (owners[i] != body) {
+                    // The list changed under this slot; do not blend two different bodies
+                    owners[i] = body;
+                    float[] other = intoCurrent ? previous : current;
+                    other[o] = target[o];
+                    other[o + 1] = target[o + 1];
+                    other[o + 2] = target[o + 2];
+                }
+            }
+        }
+
+        /**
+         * Makes the rendered transform jump to where the bodies are now, e.g. after
+         * setTransform. Stepping side only; visible from the next {@link #acquire()}.
+         */
+        public void snap() {
+            capture(false);
+            capture(true);
+            publish();
+        }
+
+        /** Number of bodies in the acquired snapshot, which may lag behind the list. */
+        public int size() {
+            return front.counts.length > index ? front.counts[index] : 0;
+        }
+
+        public float x(int i) {
+            return blend(i * 3);
+        }
+
+        public float y(int i) {
+            return blend(i * 3 + 1);
+        }
+
+        /** Interpolated angle in radians. */
+        public float angle(int i) {
+            return blend(i * 3 + 2);
+        }
+
+        private float blend(int field) {
+            Snapshot snapshot = front;
+            int o = snapshot.offsets[index] + field;
+            return snapshot.previous[o] + (snapshot.current[o] - snapshot.previous[o]) * renderAlpha;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Physics debug view that replaces the always-on Box2DDebugRenderer. It is off by default
+ * and then costs a single boolean check per frame. When enabled, every selected channel is
+ * drawn as lines through one ShapeRenderer batch, so the whole overlay is a handful of
+ * draw calls however many fixtures the level has.
+ */
+public class PhysicsDebugOverlay implements Disposable {
+
+    public enum Channel { SHAPES, AABBS, CONTACTS, VELOCITIES, SLEEPING }
+
+    private static final Channel[] CHANNELS = Channel.values();
+
+    // Length of a drawn velocity vector, in seconds of travel
+    private static final float VELOCITY_SCALE = 0.1f;
+    private static final int CIRCLE_SEGMENTS = 16;
+
+    private static final Color AWAKE_COLOR = new Color(0.5f, 0.9f, 0.5f, 1);
+    private static final Color ASLEEP_COLOR = new Color(0.6f, 0.6f, 0.9f, 1);
+    private static final Color STATIC_COLOR = new Color(0.5f, 0.5f, 0.5f, 1);
+    private static final Color INACTIVE_COLOR = new Color(0.4f, 0.3f, 0.3f, 1);
+
+    private boolean enabled = false;
+    private final boolean[] channels = new boolean[CHANNELS.length];
+    private ShapeRenderer shapes;
+
+    // Scratch objects reused across frames
+    private final Array<Body> bodies = new Array<>();
+    private final Vector2 vertex = new Vector2();
+    private float[] polygon = new float[16];
+
+    public PhysicsDebugOverlay() {
+        channels[Channel.SHAPES.ordinal()] = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    public void toggle(Channel channel) {
+        channels[channel.ordinal()] = !channels[channel.ordinal()];
+    }
+
+    public boolean isShown(Channel channel) {
+        return channels[channel.ordinal()];
+    }
+
+    /** F1 toggles the overlay; while it is shown, keys 1-5 toggle the channels in {@link Channel} order. */
+    public void handleInput() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F1)) {
+            toggle();
+        }
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < CHANNELS.length; i++) {
+            if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1 + i)) {
+                toggle(CHANNELS[i]);
+            }
+        }
+    }
+
+    public void render(World world, Matrix4 projection) {
+        if (!enabled) {
+            return;
+        }
+        if (shapes == null) {
+            shapes = new ShapeRenderer(5000);
+        }
+
+        shapes.setProjectionMatrix(projection);
+        shapes.begin(ShapeRenderer.ShapeType.Line);
+
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            drawBody(bodies.get(i));
+        }
+        if (isShown(Channel.CONTACTS)) {
+            drawContacts(world);
+        }
+
+        shapes.end();
+    }
+
+    private void drawBody(Body body) {
+        Transform transform = body.getTransform();
+        Array<Fixture> fixtures = body.getFixtureList();
+        shapes.setColor(colorOf(body));
+
+        for (int f = 0; f < fixtures.size; f++) {
+            Shape shape = fixtures.get(f).getShape();
+            if (shape.getType() == Shape.Type.Circle) {
+                CircleShape circle = (CircleShape) shape;
+                transform.mul(vertex.set(circle.getPosition()));
+                float radius = circle.getRadius();
+                if (isShown(Channel.SHAPES)) {
+                    shapes.circle(vertex.x, vertex.y, radius, CIRCLE_SEGMENTS);
+                }
+                if (isShown(Channel.AABBS)) {
+                    shapes.rect(vertex.x - radius, vertex.y - radius, radius * 2, radius * 2);
+                }
+            } else if (shape.getType() == Shape.Type.Polygon) {
+                drawPolygon((PolygonShape) shape, transform);
+            }
+        }
+
+        if (isShown(Channel.SLEEPING) && body.getType() != BodyDef.BodyType.StaticBody && !body.isAwake()) {
+            Vector2 position = body.getPosition();
+            shapes.setColor(ASLEEP_COLOR);
+            shapes.x(position.x, position.y, 0.05f);
+        }
+
+        if (isShown(Channel.VELOCITIES) && body.getType() != BodyDef.BodyType.StaticBody) {
+            Vector2 center = body.getWorldCenter();
+            float cx = center.x;
+            float cy = center.y;
+            Vector2 velocity = body.getLinearVelocity();
+            shapes.setColor(Color.YELLOW);
+            shapes.line(cx, cy, cx + velocity.x * VELOCITY_SCALE, cy + velocity.y * VELOCITY_SCALE);
+        }
+    }
+
+    private void drawPolygon(PolygonShape polygonShape, Transform transform) {
+        int count = polygonShape.getVertexCount();
+        if (polygon.length < count * 2) {
+            polygon = new float[count * 2];
+        }
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int v = 0; v < count; v++) {
+            polygonShape.getVertex(v, vertex);
+            transform.mul(vertex);
+            polygon[v * 2] = vertex.x;
+            polygon[v * 2 + 1] = vertex.y;
+            minX = Math.min(minX, vertex.x);
+            minY = Math.min(minY, vertex.y);
+            maxX = Math.max(maxX, vertex.x);
+            maxY = Math.max(maxY, vertex.y);
+        }
+        if (isShown(Channel.SHAPES)) {
+            shapes.polygon(polygon, 0, count * 2);
+        }
+        if (isShown(Channel.AABBS)) {
+            shapes.rect(minX, minY, maxX - minX, maxY - minY);
+        }
+    }
+
+    private void drawContacts(World world) {
+        shapes.setColor(Color.RED);
+        Array<Contact> contacts = world.getContactList();
+        for (int i = 0; i < contacts.size; i++) {
+            Contact contact = contacts.get(i);
+            if (!contact.isTouching()) {
+                continue;
+            }
+            WorldManifold manifold = contact.getWorldManifold();
+            Vector2[] points = manifold.getPoints();
+            for (int p = 0; p < manifold.getNumberOfContactPoints(); p++) {
+                shapes.x(points[p].x, points[p].y, 0.03f);
+            }
+        }
+    }
+
+    private Color colorOf(Body body) {
+        if (!body.isActive()) {
+            return INACTIVE_COLOR;
+        }
+        if (body.getType() == BodyDef.BodyType.StaticBody) {
+            return STATIC_COLOR;
+        }
+        return body.isAwake() ? AWAKE_COLOR : ASLEEP_COLOR;
+    }
+
+    @Override
+    public void dispose() {
+        if (shapes != null) {
+            shapes.dispose();
+        }
+    }
+}
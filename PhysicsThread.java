@@ -0,0 +1,243 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Disposable;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs a {@link PhysicsClock} on a thread of its own, so stepping the world overlaps with
+ * drawing. The thread advances the clock in real time and sleeps until the next step is
+ * due. The renderer sees the results through the clock's snapshots, taken with
+ * {@link #update}, and never waits for a step.
+ * <p>
+ * While the thread runs, the world belongs to it. Input, abilities and restarts reach the
+ * world as commands, {@link #post posted} from the render thread and run between two steps,
+ * so the step numbers a recording notes are the ones the input really applied at. Commands
+ * wait in a fixed ring of slots, so posting allocates nothing; a caller that holds its
+ * commands in fields keeps its frames free of garbage. With a single core there is no thread: commands run right away and {@link #update} steps the
+ * clock on the render thread, as the screens used to.
+ */
+public class PhysicsThread implements Disposable {
+
+    private static final long STEP_NANOS = (long) (PhysicsClock.STEP * 1e9);
+    // How often a paused thread looks for commands
+    private static final long PAUSED_POLL_NANOS = 10_000_000L;
+    // Commands that can wait at once; a poster finding the ring full waits for a free slot
+    static final int COMMAND_CAPACITY = 64;
+
+    private final PhysicsClock clock;
+    private final Thread thread;
+    // Ring of pending commands. Only the render thread posts and only the stepping thread
+    // runs them, and each index is advanced by one side only, as in ContactEventQueue
+    private final Runnable[] commands = new Runnable[COMMAND_CAPACITY];
+    private volatile long writeIndex = 0;
+    private volatile long readIndex = 0;
+    // Held while the world is stepped, so a reader such as the debug overlay can see it at rest
+    private final ReentrantLock worldLock = new ReentrantLock();
+
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+    private volatile int fastForwardSteps = 0;
+    private volatile RuntimeException failure;
+
+    /** Steps on a thread of its own if there is more than one core. */
+    public PhysicsThread(PhysicsClock clock, String name) {
+        this(clock, name, Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    public PhysicsThread(PhysicsClock clock, String name, boolean threaded) {
+        this.clock = clock;
+        if (threaded) {
+            thread = new Thread(this::loop, name);
+            thread.setDaemon(true);
+        } else {
+            thread = null;
+        }
+    }
+
+    /** Starts stepping; commands posted before this run right away on the caller. */
+    public void start() {
+        if (thread != null && !running) {
+            running = true;
+            thread.start();
+        }
+    }
+
+    public boolean isThreaded() {
+        return thread != null;
+    }
+
+    /**
+     * Runs {@code command} on the stepping thread before its next step, or right away if
+     * there is none. The command may change the world and the clock's tracked groups.
+     * Call from the render thread only.
+     */
+    public void post(Runnable command) {
+        if (running) {
+            enqueue(command);
+        } else {
+            command.run();
+        }
+    }
+
+    private void enqueue(Runnable command) {
+        long write = writeIndex;
+        while (write - readIndex >= commands.length) {
+            checkFailure();
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(PAUSED_POLL_NANOS / 10);
+        }
+        commands[(int) (write % commands.length)] = command;
+        // Publishes the command to the stepping thread
+        writeIndex = write + 1;
+    }
+
+    /** Like {@link #post}, but returns only once the command has run, e.g. for a restart. */
+    public void runAndWait(Runnable command) {
+        if (!running) {
+            command.run();
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        enqueue(() -> {
+            try {
+                command.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        LockSupport.unpark(thread);
+        while (done.getCount() > 0) {
+            checkFailure();
+            LockSupport.parkNanos(PAUSED_POLL_NANOS / 10);
+        }
+    }
+
+    /**
+     * Called once per frame on the render thread. Steps the clock by the frame time unless
+     * the stepping thread does, then acquires the newest snapshot for drawing.
+     */
+    public void update(float delta) {
+        checkFailure();
+        if (!running && !paused) {
+            int steps = fastForwardSteps;
+            if (steps > 0) {
+                clock.fastForward(steps);
+            } else {
+                clock.advance(delta);
+            }
+        }
+        clock.acquire();
+    }
+
+    /** Runs {@code steps} steps per frame instead of real time while above zero. */
+    public void setFastForward(int steps) {
+        fastForwardSteps = steps;
+    }
+
+    /** Stops stepping, e.g. while another screen is shown; commands still run. */
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        paused = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /** Waits for the current step to finish and keeps the world still until {@link #unlockWorld()}. */
+    public void lockWorld() {
+        worldLock.lock();
+    }
+
+    public void unlockWorld() {
+        worldLock.unlock();
+    }
+
+    private void loop() {
+        long last = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                int steps = fastForwardSteps;
+                worldLock.lock();
+                try {
+                    runCommands();
+                    if (paused) {
+                        // Banked time would be replayed in a burst on resume
+                        steps = -1;
+                    } else if (steps > 0) {
+                        clock.fastForward(steps);
+                    } else {
+                        clock.advance((now - last) / 1e9f);
+                    }
+                } finally {
+                    worldLock.unlock();
+                }
+                last = now;
+
+                // Sleep until the next step is due; a fast-forward runs one batch per frame
+                long wait = steps < 0 ? PAUSED_POLL_NANOS
+                    : steps > 0 ? STEP_NANOS
+                    : (long) ((1 - clock.getAlpha()) * STEP_NANOS);
+                LockSupport.parkNanos(wait);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            running = false;
+        }
+    }
+
+    private void runCommands() {
+        long read = readIndex;
+        long write = writeIndex;
+        for (; read < write; read++) {
+            int i = (int) (read % commands.length);
+            Runnable command = commands[i];
+            commands[i] = null;
+            // Frees the slot before the command runs, in case it fails
+            readIndex = read + 1;
+            command.run();
+        }
+    }
+
+    // Rethrows on the render thread what stopped the stepping thread
+    private void checkFailure() {
+        RuntimeException e = failure;
+        if (e != null) {
+            throw new IllegalStateException("Physics thread failed", e);
+        }
+    }
+
+    /** Stops the thread and waits for it, so the world can be disposed safely afterwards. */
+    @Override
+    public void dispose() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Arrays.fill(commands, null);
+        readIndex = writeIndex;
+    }
+
+    /** Id of the stepping thread, e.g. to read its allocation counter, or -1 if there is none. */
+    long getThreadId() {
+        return thread != null ? thread.getId() : -1;
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.some_example_name;
 
-public class Pig{
+public class Pig extends Destructible {
 
+    public Pig() {
+        super(Material.FLESH);
+    }
 }
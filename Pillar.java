@@ -1,5 +1,12 @@
 package io.github.some_example_name;
 
-public class Pillar{
+public class Pillar extends Destructible {
 
+    public Pillar() {
+        this(Material.WOOD);
+    }
+
+    public Pillar(Material material) {
+        super(material);
+    }
 }
@@ -0,0 +1,84 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Tells when a shot has played out. After every step it sums the kinetic energy of the
+ * awake dynamic bodies; sleeping bodies, and switched-off ones such as parked birds, are
+ * skipped without reading their velocity. The level counts as settled once every body is
+ * asleep, or once the energy has stayed below {@link #KINETIC_ENERGY_THRESHOLD} for
+ * {@link #QUIET_STEPS} steps in a row, provided no shockwave or destruction is still pending.
+ */
+public class SettleDetector {
+
+    // Total kinetic energy, in joules, below which the level looks at rest
+    static final float KINETIC_ENERGY_THRESHOLD = 1e-4f;
+    // Steps the energy must stay below the threshold, so a body at the top of an arc does not count
+    static final int QUIET_STEPS = 30;
+    // Upper bound on the wait, e.g. for a bird that rolled off the edge of the ground
+    static final int MAX_SETTLE_STEPS = 20 * 60;
+
+    private final LevelWorld level;
+    private final Array<Body> bodies = new Array<>(false, 64);
+
+    private float kineticEnergy = 0;
+    private int awakeCount = 0;
+    private int quietSteps = 0;
+    private int steps = 0;
+
+    public SettleDetector(LevelWorld level) {
+        this.level = level;
+    }
+
+    /** Samples the world; call after every step. */
+    public void update() {
+        level.world.getBodies(bodies);
+        float energy = 0;
+        int awake = 0;
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            if (!body.isAwake() || !body.isActive() || body.getType() != BodyDef.BodyType.DynamicBody) {
+                continue;
+            }
+            awake++;
+            Vector2 velocity = body.getLinearVelocity();
+            float angularVelocity = body.getAngularVelocity();
+            energy += 0.5f * body.getMass() * velocity.len2()
+                + 0.5f * body.getInertia() * angularVelocity * angularVelocity;
+        }
+        bodies.clear();
+
+        kineticEnergy = energy;
+        awakeCount = awake;
+        quietSteps = energy < KINETIC_ENERGY_THRESHOLD ? quietSteps + 1 : 0;
+        steps++;
+    }
+
+    public boolean isSettled() {
+        if (level.damage.getQueuedCount() > 0 || level.isShockwaveActive()) {
+            return false;
+        }
+        return steps > 0 && (awakeCount == 0 || quietSteps >= QUIET_STEPS || steps >= MAX_SETTLE_STEPS);
+    }
+
+    /** Starts a new wait, e.g. when the bird is launched. */
+    public void reset() {
+        quietSteps = 0;
+        steps = 0;
+    }
+
+    public float getKineticEnergy() {
+        return kineticEnergy;
+    }
+
+    public int getAwakeCount() {
+        return awakeCount;
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+}
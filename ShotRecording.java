@@ -0,0 +1,187 @@
+package io.github.some_example_name;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Every input that changed a level's physics, keyed by the physics step it was applied
+ * after, plus a checksum of the final state. Played back by {@link ShotReplayer}.
+ * A recording starts when the level screen is built and covers restarts too, so it replays
+ * from a freshly built level. Events are kept in primitive arrays; adding one allocates
+ * nothing unless the arrays grow.
+ * <p>
+ * File layout, little-endian: magic, version, level id (length-prefixed UTF-8), event
+ * count, end step, checksum, then one {@link #EVENT_SIZE}-byte record per event: step
+ * (int), type (byte) and two float arguments.
+ */
+public class ShotRecording {
+
+    static final int MAGIC = 0x53484F54; // "SHOT"
+    static final short VERSION = 1;
+    static final int EVENT_SIZE = 13;
+
+    // Event types and their arguments
+    public static final byte DRAG = 1;      // bird placed at (x, y)
+    public static final byte LAUNCH = 2;    // bird launched; the impulse it got, for verification
+    public static final byte EXPLODE = 3;   // bird exploded
+    public static final byte SHOCKWAVE = 4; // bird released a shockwave
+    public static final byte PLATFORM = 5;  // platform switched on (1) or off (0)
+    public static final byte RESTART = 6;   // level restarted in place
+    public static final byte NEXT_BIRD = 7; // next bird of the queue put on the slingshot
+
+    private final String levelId;
+    private int[] steps = new int[64];
+    private byte[] types = new byte[64];
+    private float[] args = new float[128];
+    private int count = 0;
+    // Event index of the last drag since the last restart or bird change, or -1
+    private int lastDrag = -1;
+
+    private int endStep = -1;
+    private long checksum;
+
+    public ShotRecording(String levelId) {
+        this.levelId = levelId;
+    }
+
+    public void add(long step, byte type, float a, float b) {
+        if (count == steps.length) {
+            steps = Arrays.copyOf(steps, count * 2);
+            types = Arrays.copyOf(types, count * 2);
+            args = Arrays.copyOf(args, count * 4);
+        }
+        steps[count] = (int) step;
+        types[count] = type;
+        args[count * 2] = a;
+        args[count * 2 + 1] = b;
+        if (type == DRAG) {
+            lastDrag = count;
+        } else if (type == RESTART || type == NEXT_BIRD) {
+            // The bird was put back on the slingshot, so the next drag must be kept
+            lastDrag = -1;
+        }
+        count++;
+    }
+
+    public void add(long step, byte type) {
+        add(step, type, 0, 0);
+    }
+
+    /**
+     * Adds a drag event unless the last one put the bird on the same point at the same step.
+     * A drag repeated after a step is kept: the held bird falls while the world steps, and
+     * placing it again moves it back.
+     */
+    public void addDrag(long step, float x, float y) {
+        int i = lastDrag;
+        if (i >= 0 && steps[i] == (int) step && args[i * 2] == x && args[i * 2 + 1] == y) {
+            return;
+        }
+        add(step, DRAG, x, y);
+    }
+
+    /** Closes the recording with the step it ended at and {@link LevelWorld#checksum()} at that point. */
+    public void finish(long endStep, long checksum) {
+        this.endStep = (int) endStep;
+        this.checksum = checksum;
+    }
+
+    /** An independent copy, e.g. to write out on another thread while this one keeps recording. */
+    public ShotRecording copy() {
+        ShotRecording copy = new ShotRecording(levelId);
+        copy.steps = Arrays.copyOf(steps, steps.length);
+        copy.types = Arrays.copyOf(types, types.length);
+        copy.args = Arrays.copyOf(args, args.length);
+        copy.count = count;
+        copy.lastDrag = lastDrag;
+        copy.endStep = endStep;
+        copy.checksum = checksum;
+        return copy;
+    }
+
+    public String getLevelId() {
+        return levelId;
+    }
+
+    public int getEventCount() {
+        return count;
+    }
+
+    public int step(int i) {
+        return steps[i];
+    }
+
+    public byte type(int i) {
+        return types[i];
+    }
+
+    public float a(int i) {
+        return args[i * 2];
+    }
+
+    public float b(int i) {
+        return args[i * 2 + 1];
+    }
+
+    public int getEndStep() {
+        return endStep;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public void write(File file) throws IOException {
+        if (endStep < 0) {
+            throw new IllegalStateException("Recording is not finished");
+        }
+        byte[] id = levelId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer out = ByteBuffer.allocate(4 + 2 + 2 + id.length + 4 + 4 + 8 + count * EVENT_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) id.length);
+        out.put(id);
+        out.putInt(count);
+        out.putInt(endStep);
+        out.putLong(checksum);
+        for (int i = 0; i < count; i++) {
+            out.putInt(steps[i]);
+            out.put(types[i]);
+            out.putFloat(args[i * 2]);
+            out.putFloat(args[i * 2 + 1]);
+        }
+        try (OutputStream stream = new FileOutputStream(file)) {
+            stream.write(out.array());
+        }
+    }
+
+    public static ShotRecording read(File file) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+        if (in.remaining() < 8 || in.getInt() != MAGIC) {
+            throw new IOException("Not a shot recording: " + file);
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported shot recording version " + version + ": " + file);
+        }
+        byte[] id = new byte[in.getShort()];
+        in.get(id);
+
+        ShotRecording recording = new ShotRecording(new String(id, StandardCharsets.UTF_8));
+        int count = in.getInt();
+        int endStep = in.getInt();
+        long checksum = in.getLong();
+        for (int i = 0; i < count; i++) {
+            int step = in.getInt();
+            byte type = in.get();
+            recording.add(step, type, in.getFloat(), in.getFloat());
+        }
+        recording.finish(endStep, checksum);
+        return recording;
+    }
+}
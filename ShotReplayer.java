@@ -0,0 +1,104 @@
+package io.github.some_example_name;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Headless playback of {@link ShotRecording}s. Usage:
+ * <pre>ShotReplayer shot.shot...</pre>
+ * Each recording's level is built again and its inputs are applied at their steps, with
+ * the world stepped as fast as it goes and nothing rendered. The final checksum is compared
+ * with the recorded one; the exit status is 1 if any recording does not match. Needs the
+ * Box2D natives but no window or GL context.
+ */
+public class ShotReplayer {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ShotReplayer shot.shot...");
+            System.exit(1);
+        }
+        boolean failed = false;
+        for (String arg : args) {
+            ShotRecording recording = ShotRecording.read(new File(arg));
+            long start = System.nanoTime();
+            long checksum = replay(recording);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            boolean matches = checksum == recording.getChecksum();
+            failed |= !matches;
+            System.out.printf("%s: %s, %d inputs, %d steps in %.1f ms (%.0f steps/s), checksum %s%n",
+                arg, recording.getLevelId(), recording.getEventCount(), recording.getEndStep(), millis,
+                recording.getEndStep() / (millis / 1000), matches ? "ok" : "MISMATCH");
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    /** Plays a recording on a freshly built level and returns the final {@link LevelWorld#checksum()}. */
+    public static long replay(ShotRecording recording) throws IOException {
+        LevelWorld level = createLevel(recording.getLevelId());
+        level.build();
+        try {
+            PhysicsClock clock = new PhysicsClock(level.world, Integer.MAX_VALUE);
+            clock.addStepListener(level::afterStep);
+
+            for (int i = 0; i < recording.getEventCount(); i++) {
+                clock.fastForward(recording.step(i) - (int) clock.getTotalSteps());
+                apply(level, recording, i);
+            }
+            clock.fastForward(recording.getEndStep() - (int) clock.getTotalSteps());
+            return level.checksum();
+        } finally {
+            level.dispose();
+        }
+    }
+
+    private static void apply(LevelWorld level, ShotRecording recording, int i) {
+        switch (recording.type(i)) {
+            case ShotRecording.DRAG:
+                level.placeBird(recording.a(i), recording.b(i));
+                break;
+            case ShotRecording.LAUNCH:
+                level.launchBird();
+                if (level.getLaunchImpulse().x != recording.a(i) || level.getLaunchImpulse().y != recording.b(i)) {
+                    System.err.println("Launch at step " + recording.step(i) + " got impulse " + level.getLaunchImpulse()
+                        + ", recorded (" + recording.a(i) + ", " + recording.b(i) + ")");
+                }
+                break;
+            case ShotRecording.EXPLODE:
+                level.explodeBird();
+                break;
+            case ShotRecording.SHOCKWAVE:
+                level.startShockwave();
+                break;
+            case ShotRecording.PLATFORM:
+                level.platformBody.setActive(recording.a(i) != 0);
+                break;
+            case ShotRecording.RESTART:
+                level.restart();
+                break;
+            case ShotRecording.NEXT_BIRD:
+                level.nextBird();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown event type " + recording.type(i) + " at step " + recording.step(i));
+        }
+    }
+
+    /** Builds the level named by {@link LevelWorld#getId()}. */
+    static LevelWorld createLevel(String id) throws IOException {
+        if (id.equals("LevelOneWorld")) {
+            return new LevelOneWorld();
+        }
+        if (id.startsWith("LevelOneWorld:")) {
+            return new LevelOneWorld(Integer.parseInt(id.substring("LevelOneWorld:".length())));
+        }
+        if (id.equals("LevelTwoWorld")) {
+            return new LevelTwoWorld();
+        }
+        if (id.startsWith(GeneratedLevelWorld.ID_PREFIX)) {
+            return GeneratedLevelWorld.fromId(id);
+        }
+        return CompiledLevelWorld.load(new File(id));
+    }
+}
@@ -0,0 +1,293 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Offline level-balancing tool that finds which launches clear a level. Usage:
+ * <pre>ShotSolver [levelId] [--grid N] [--depth N] [--threads N] [--csv file]</pre>
+ * It sweeps the drag positions the slingshot allows, a disk of
+ * {@link LevelWorld#MAX_DRAG_DISTANCE} around the slingshot base, starting from an N by N
+ * grid. Every candidate is played headless until the level settles. Cells whose shot
+ * clears the level, or comes close, are split into four and sampled again, down to the
+ * given depth. The cells run as fork-join tasks on all cores. Box2D worlds are not thread
+ * safe, so each worker thread builds its own level once and restarts it for every shot.
+ * A report with the success map and the best shot is printed at the end. The level id is
+ * the one {@link ShotReplayer} accepts.
+ */
+public class ShotSolver {
+
+    // Cells scoring at least this are refined even when the shot did not clear the level
+    private static final float REFINE_SCORE = 0.5f;
+    private static final int MAX_MAP_COLUMNS = 64;
+
+    /** Outcome of one launch, for the drag offset at the center of its cell. */
+    static final class Sample {
+        final float dragX, dragY, cellSize;
+        final int depth;
+        final boolean cleared;
+        final float score;
+        final int steps;
+        final float impulseX, impulseY;
+
+        Sample(float dragX, float dragY, float cellSize, int depth, boolean cleared, float score, int steps,
+               float impulseX, float impulseY) {
+            this.dragX = dragX;
+            this.dragY = dragY;
+            this.cellSize = cellSize;
+            this.depth = depth;
+            this.cleared = cleared;
+            this.score = score;
+            this.steps = steps;
+            this.impulseX = impulseX;
+            this.impulseY = impulseY;
+        }
+    }
+
+    /** A level, its clock and settle detector, owned by one worker thread. */
+    private static final class Simulator {
+        final LevelWorld level;
+        final PhysicsClock clock;
+        final SettleDetector settle;
+
+        Simulator(String levelId) throws IOException {
+            level = ShotReplayer.createLevel(levelId);
+            level.build();
+            clock = new PhysicsClock(level.world, Integer.MAX_VALUE);
+            settle = new SettleDetector(level);
+            clock.addStepListener(level::afterStep);
+            clock.addStepListener(settle::update);
+        }
+
+        /** Launches from {@code (dragX, dragY)} relative to the slingshot base and plays until at rest. */
+        Sample run(float dragX, float dragY, float cellSize, int depth) {
+            level.restart();
+            int pillarCount = level.pillarBodies.size();
+            int pigCount = level.pigBodies.size();
+
+            // Let the structure come to rest first, as it does while the player aims, so its
+            // bodies are armed by the time the shot arrives
+            settle.reset();
+            do {
+                clock.fastForward(1);
+            } while (!settle.isSettled());
+
+            level.placeBird(level.slingshotBase.x + dragX, level.slingshotBase.y + dragY);
+            level.launchBird();
+            Vector2 impulse = level.getLaunchImpulse();
+            settle.reset();
+            do {
+                clock.fastForward(1);
+            } while (!settle.isSettled());
+
+            // Destroyed bodies have left the lists and count as done
+            int pillarsDone = pillarCount - level.pillarBodies.size();
+            for (int i = 0; i < level.pillarBodies.size(); i++) {
+                pillarsDone += LevelWorld.isPillarDestroyed(level.pillarBodies.get(i)) ? 1 : 0;
+            }
+            int pigsDone = pigCount - level.pigBodies.size();
+            for (int i = 0; i < level.pigBodies.size(); i++) {
+                pigsDone += LevelWorld.isPigOnGround(level.pigBodies.get(i)) ? 1 : 0;
+            }
+            boolean cleared = pillarsDone == pillarCount || pigsDone == pigCount;
+            float score = (pillarsDone + pigsDone) / (float) Math.max(1, pillarCount + pigCount);
+            return new Sample(dragX, dragY, cellSize, depth, cleared, score, settle.getSteps(), impulse.x, impulse.y);
+        }
+    }
+
+    private final String levelId;
+    private final int maxDepth;
+    private final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+    private final Queue<Simulator> simulators = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Simulator> simulator = new ThreadLocal<>();
+
+    ShotSolver(String levelId, int maxDepth) {
+        this.levelId = levelId;
+        this.maxDepth = maxDepth;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String levelId = "LevelOneWorld";
+        int grid = 8;
+        int depth = 3;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String csv = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--grid": grid = Integer.parseInt(args[++i]); break;
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--csv": csv = args[++i]; break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        System.err.println("Usage: ShotSolver [levelId] [--grid N] [--depth N] [--threads N] [--csv file]");
+                        System.exit(1);
+                    }
+                    levelId = args[i];
+            }
+        }
+
+        ShotSolver solver = new ShotSolver(levelId, depth);
+        long start = System.nanoTime();
+        List<Sample> results = solver.solve(grid, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.print(report(levelId, results, grid, depth));
+        System.out.printf("%d shots on %d threads in %.1f s (%.0f shots/s)%n",
+            results.size(), threads, seconds, results.size() / seconds);
+        if (csv != null) {
+            writeCsv(new File(csv), results);
+        }
+    }
+
+    /** Sweeps the drag disk from a {@code grid} by {@code grid} start and returns every sample taken. */
+    List<Sample> solve(int grid, int threads) {
+        float radius = LevelWorld.MAX_DRAG_DISTANCE;
+        float cellSize = 2 * radius / grid;
+        List<Cell> cells = new ArrayList<>();
+        for (int row = 0; row < grid; row++) {
+            for (int column = 0; column < grid; column++) {
+                cells.add(new Cell(-radius + (column + 0.5f) * cellSize, -radius + (row + 0.5f) * cellSize, cellSize, 0));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> ForkJoinTask.invokeAll(cells)).join();
+        } finally {
+            pool.shutdown();
+            for (Simulator done : simulators) {
+                done.level.dispose();
+            }
+        }
+        return new ArrayList<>(samples);
+    }
+
+    private Simulator simulator() {
+        Simulator current = simulator.get();
+        if (current == null) {
+            try {
+                current = new Simulator(levelId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            simulator.set(current);
+            simulators.add(current);
+        }
+        return current;
+    }
+
+    /** One square of the drag space; samples its center and splits if the shot looks promising. */
+    private final class Cell extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float x, y, size;
+        private final int depth;
+
+        Cell(float x, float y, float size, int depth) {
+            this.x = x;
+            this.y = y;
+            this.size = size;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            float radius = LevelWorld.MAX_DRAG_DISTANCE;
+            if (x * x + y * y > radius * radius) {
+                return;
+            }
+            Sample sample = simulator().run(x, y, size, depth);
+            samples.add(sample);
+
+            if (depth < maxDepth && (sample.cleared || sample.score >= REFINE_SCORE)) {
+                float half = size / 2;
+                float quarter = size / 4;
+                invokeAll(
+                    new Cell(x - quarter, y - quarter, half, depth + 1),
+                    new Cell(x + quarter, y - quarter, half, depth + 1),
+                    new Cell(x - quarter, y + quarter, half, depth + 1),
+                    new Cell(x + quarter, y + quarter, half, depth + 1));
+            }
+        }
+    }
+
+    /**
+     * Success map of the drag disk, seen from behind the slingshot (pulling left and down
+     * is the lower left), followed by the best shot. Finer samples are painted over coarser
+     * ones: '#' cleared, 'o' at least half done, '.' partly done, '-' nothing.
+     */
+    static String report(String levelId, List<Sample> results, int grid, int depth) {
+        float radius = LevelWorld.MAX_DRAG_DISTANCE;
+        int columns = Math.min(MAX_MAP_COLUMNS, grid << depth);
+        float cell = 2 * radius / columns;
+        char[][] map = new char[columns][columns];
+        for (char[] row : map) {
+            Arrays.fill(row, ' ');
+        }
+
+        List<Sample> byDepth = new ArrayList<>(results);
+        byDepth.sort(Comparator.comparingInt(sample -> sample.depth));
+        for (Sample sample : byDepth) {
+            char mark = sample.cleared ? '#' : sample.score >= REFINE_SCORE ? 'o' : sample.score > 0 ? '.' : '-';
+            int fromColumn = Math.max(0, (int) ((sample.dragX - sample.cellSize / 2 + radius) / cell));
+            int toColumn = Math.min(columns - 1, (int) ((sample.dragX + sample.cellSize / 2 + radius) / cell - 0.5f));
+            int fromRow = Math.max(0, (int) ((sample.dragY - sample.cellSize / 2 + radius) / cell));
+            int toRow = Math.min(columns - 1, (int) ((sample.dragY + sample.cellSize / 2 + radius) / cell - 0.5f));
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int column = fromColumn; column <= toColumn; column++) {
+                    float px = -radius + (column + 0.5f) * cell;
+                    float py = -radius + (row + 0.5f) * cell;
+                    if (px * px + py * py <= radius * radius) {
+                        map[row][column] = mark;
+                    }
+                }
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        int cleared = 0;
+        Sample best = null;
+        for (Sample sample : results) {
+            cleared += sample.cleared ? 1 : 0;
+            if (best == null || isBetter(sample, best)) {
+                best = sample;
+            }
+        }
+        out.append(String.format("Level %s: %d shots, %d clear the level%n", levelId, results.size(), cleared));
+        for (int row = columns - 1; row >= 0; row--) {
+            out.append('|').append(map[row]).append('|').append(System.lineSeparator());
+        }
+        if (best != null) {
+            out.append(String.format("Best shot: drag (%+.3f, %+.3f) m from the slingshot base, impulse (%.3f, %.3f), "
+                    + "%s, %.0f%% of objectives, settled after %d steps%n",
+                best.dragX, best.dragY, best.impulseX, best.impulseY,
+                best.cleared ? "clears the level" : "does not clear the level", best.score * 100, best.steps));
+        }
+        return out.toString();
+    }
+
+    // Clearing beats not clearing, then a higher score, then settling sooner
+    private static boolean isBetter(Sample a, Sample b) {
+        if (a.cleared != b.cleared) {
+            return a.cleared;
+        }
+        if (a.score != b.score) {
+            return a.score > b.score;
+        }
+        return a.steps < b.steps;
+    }
+
+    private static void writeCsv(File file, List<Sample> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("dragX,dragY,cellSize,depth,cleared,score,steps,impulseX,impulseY");
+            for (Sample sample : results) {
+                out.printf(Locale.ROOT, "%.4f,%.4f,%.4f,%d,%b,%.3f,%d,%.4f,%.4f%n", sample.dragX, sample.dragY,
+                    sample.cellSize, sample.depth, sample.cleared, sample.score, sample.steps,
+                    sample.impulseX, sample.impulseY);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import java.util.Arrays;
+
+/**
+ * Area and ray queries against a level's world, answered by Box2D's broad phase so a query
+ * only touches the bodies near it. The callbacks and the result buffer are created once and
+ * reused, so queries allocate nothing; results stay valid until the next query. Not thread
+ * safe, like the world itself.
+ */
+public class SpatialQuery {
+
+    private final World world;
+
+    // Bodies found by the last area query
+    private Body[] results = new Body[32];
+    private int resultCount = 0;
+
+    // Closest hit of the last ray cast
+    private Body rayBody;
+    private final Vector2 rayPoint = new Vector2();
+    private final Vector2 rayNormal = new Vector2();
+    private float rayFraction;
+    private Body rayIgnore;
+    private int rayMask;
+    private boolean blocked;
+
+    private final QueryCallback collectBodies = fixture -> {
+        Body body = fixture.getBody();
+        if (body.getFixtureList().size > 1 && contains(body)) {
+            return true;
+        }
+        if (resultCount == results.length) {
+            results = Arrays.copyOf(results, results.length * 2);
+        }
+        results[resultCount++] = body;
+        return true;
+    };
+
+    private final RayCastCallback closestHit = (fixture, point, normal, fraction) -> {
+        if (fixture.getBody() == rayIgnore || (fixture.getFilterData().categoryBits & rayMask) == 0) {
+            return -1;
+        }
+        rayBody = fixture.getBody();
+        rayPoint.set(point);
+        rayNormal.set(normal);
+        rayFraction = fraction;
+        // Clip the ray so only closer fixtures are reported from here on
+        return fraction;
+    };
+
+    private final RayCastCallback staticHit = (fixture, point, normal, fraction) -> {
+        if (fixture.getBody().getType() != BodyDef.BodyType.StaticBody) {
+            return -1;
+        }
+        blocked = true;
+        return 0;
+    };
+
+    public SpatialQuery(World world) {
+        this.world = world;
+    }
+
+    /** Collects every body with a fixture whose bounding box overlaps the given box. */
+    public int queryBox(float lowerX, float lowerY, float upperX, float upperY) {
+        resultCount = 0;
+        world.QueryAABB(collectBodies, lowerX, lowerY, upperX, upperY);
+        return resultCount;
+    }
+
+    /** Collects every body whose center of mass lies within {@code radius} of the point. */
+    public int queryRadius(float x, float y, float radius) {
+        queryBox(x - radius, y - radius, x + radius, y + radius);
+        float radiusSquared = radius * radius;
+        int kept = 0;
+        for (int i = 0; i < resultCount; i++) {
+            Vector2 center = results[i].getWorldCenter();
+            float dx = center.x - x;
+            float dy = center.y - y;
+            if (dx * dx + dy * dy <= radiusSquared) {
+                results[kept++] = results[i];
+            }
+        }
+        Arrays.fill(results, kept, resultCount, null);
+        resultCount = kept;
+        return kept;
+    }
+
+    public Body result(int i) {
+        return results[i];
+    }
+
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    private boolean contains(Body body) {
+        for (int i = 0; i < resultCount; i++) {
+            if (results[i] == body) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Casts a ray and keeps the closest fixture it hits.
+     *
+     * @return the body hit first, or null; the hit point and normal are in
+     * {@link #getRayPoint()} and {@link #getRayNormal()}
+     */
+    public Body rayCast(float x1, float y1, float x2, float y2) {
+        return rayCast(x1, y1, x2, y2, null, 0xFFFF);
+    }
+
+    /**
+     * Like {@link #rayCast(float, float, float, float)}, but passes through {@code ignore}
+     * and through fixtures whose category is not in {@code maskBits}, the way a body with
+     * that collision mask would.
+     */
+    public Body rayCast(float x1, float y1, float x2, float y2, Body ignore, int maskBits) {
+        rayIgnore = ignore;
+        rayMask = maskBits;
+        rayBody = null;
+        rayFraction = 1;
+        if (x1 != x2 || y1 != y2) {
+            world.rayCast(closestHit, x1, y1, x2, y2);
+        }
+        return rayBody;
+    }
+
+    public Vector2 getRayPoint() {
+        return rayPoint;
+    }
+
+    public Vector2 getRayNormal() {
+        return rayNormal;
+    }
+
+    /** How far along the last ray its hit lies, 0 at the start and 1 at the end. */
+    public float getRayFraction() {
+        return rayFraction;
+    }
+
+    /** Whether no static body, such as the ground or the platform, crosses the segment. */
+    public boolean hasLineOfSight(float x1, float y1, float x2, float y2) {
+        blocked = false;
+        if (x1 != x2 || y1 != y2) {
+            world.rayCast(staticHit, x1, y1, x2, y2);
+        }
+        return !blocked;
+    }
+}
@@ -26,7 +26,7 @@ public class StartMenuScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        backgroundTexture = new Texture(Gdx.files.internal("Angry_birds_2010.jpg"));
+        backgroundTexture = game.assets.acquire(AssetCache.MENU_BACKGROUND);
 
         Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
 
@@ -82,6 +82,6 @@ public class StartMenuScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        backgroundTexture.dispose();
+        game.assets.release(AssetCache.MENU_BACKGROUND);
     }
 }
@@ -0,0 +1,278 @@
+package io.github.some_example_name;
+
+import java.util.*;
+
+/**
+ * Lays out random structures for a level from a seed: towers, bridges, pyramids and
+ * nested boxes, each with pigs where they rest stably, on top of a storey, a deck or a
+ * pyramid, or on the floor of the innermost box. Structures are placed left to right from
+ * {@link #START_X} until they hold the requested number of bodies; the last one is cut
+ * down to fit, so the count is exact. The layout is plain numbers with no Box2D objects,
+ * and the same seed and count always give the same layout on any JVM.
+ * {@link GeneratedLevelWorld} turns it into bodies. Usage, to check a layout:
+ * <pre>StructureGenerator [seed] [bodyCount]</pre>
+ */
+public class StructureGenerator {
+
+    public enum Kind { TOWER, BRIDGE, PYRAMID, NESTED_BOXES }
+
+    // Piece kinds: a destructible upright pillar, an indestructible block, or a pig
+    public static final byte PILLAR = 0;
+    public static final byte BLOCK = 1;
+    public static final byte PIG = 2;
+
+    // Sizes in meters: pillars as in the first level, planks as thick as its plank
+    static final float PILLAR_HALF_WIDTH = 5 / LevelWorld.PPM;
+    static final float PILLAR_HALF_HEIGHT = 75 / LevelWorld.PPM;
+    static final float PLANK_HALF_HEIGHT = 5 / LevelWorld.PPM;
+    static final float BOX_HALF_SIZE = 15 / LevelWorld.PPM;
+    static final float PIG_RADIUS = 10 / LevelWorld.PPM;
+
+    // Where the first structure starts, right of the slingshot, and the space between two
+    static final float START_X = 300 / LevelWorld.PPM;
+    static final float GAP = 80 / LevelWorld.PPM;
+
+    // Nested boxes: space left around and above each inner box
+    private static final float NESTED_GAP = 10 / LevelWorld.PPM;
+
+    // Left between every two pieces that touch, so none spawns inside another's skin
+    private static final float REST = LevelWorld.RESTING_GAP;
+
+    /** One body of the layout; sizes are half extents, a pig's radius in {@code halfWidth}. */
+    public static final class Piece {
+        public final byte kind;
+        public final float x, y;
+        public final float halfWidth, halfHeight;
+        // Pillars only
+        public final Material material;
+        // Blocks only: atlas region
+        public final String region;
+
+        Piece(byte kind, float x, float y, float halfWidth, float halfHeight, Material material, String region) {
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.halfWidth = halfWidth;
+            this.halfHeight = halfHeight;
+            this.material = material;
+            this.region = region;
+        }
+    }
+
+    /** Result of {@link #generate}: the pieces and how far right they reach, in meters. */
+    public static final class Layout {
+        public final List<Piece> pieces;
+        public final float right;
+        public final int[] structures = new int[Kind.values().length];
+
+        Layout(List<Piece> pieces, float right, int[] structures) {
+            this.pieces = pieces;
+            this.right = right;
+            System.arraycopy(structures, 0, this.structures, 0, structures.length);
+        }
+
+        /** Hash of every piece, for checking that a seed still gives the same layout. */
+        public long hash() {
+            long hash = 1125899906842597L;
+            for (Piece piece : pieces) {
+                hash = 31 * hash + piece.kind;
+                hash = 31 * hash + Float.floatToIntBits(piece.x);
+                hash = 31 * hash + Float.floatToIntBits(piece.y);
+                hash = 31 * hash + Float.floatToIntBits(piece.halfWidth);
+                hash = 31 * hash + Float.floatToIntBits(piece.halfHeight);
+                hash = 31 * hash + (piece.material != null ? piece.material.ordinal() : -1);
+            }
+            return hash;
+        }
+    }
+
+    private final long seed;
+    private final Kind[] kinds;
+
+    // State of one generate() call
+    private Random random;
+    private List<Piece> pieces;
+
+    public StructureGenerator(long seed) {
+        this(seed, EnumSet.allOf(Kind.class));
+    }
+
+    /** A generator that only builds the given kinds of structure. */
+    public StructureGenerator(long seed, EnumSet<Kind> kinds) {
+        if (kinds.isEmpty()) {
+            throw new IllegalArgumentException("At least one kind of structure is needed");
+        }
+        this.seed = seed;
+        this.kinds = kinds.toArray(new Kind[0]);
+    }
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        int bodyCount = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Layout layout = new StructureGenerator(seed).generate(bodyCount);
+        int[] counts = new int[3];
+        for (Piece piece : layout.pieces) {
+            counts[piece.kind]++;
+        }
+        System.out.printf("Seed %d: %d bodies (%d pillars, %d blocks, %d pigs) over %.1f m, hash %016x%n",
+            seed, layout.pieces.size(), counts[PILLAR], counts[BLOCK], counts[PIG], layout.right, layout.hash());
+        Kind[] kinds = Kind.values();
+        for (int i = 0; i < kinds.length; i++) {
+            System.out.printf("  %-12s %d%n", kinds[i], layout.structures[i]);
+        }
+    }
+
+    /** Lays out structures holding exactly {@code bodyCount} bodies, pigs included. */
+    public Layout generate(int bodyCount) {
+        random = new Random(seed);
+        pieces = new ArrayList<>(bodyCount);
+        int[] structures = new int[Kind.values().length];
+        float x = START_X;
+        while (pieces.size() < bodyCount) {
+            int budget = bodyCount - pieces.size();
+            Kind kind = kinds[random.nextInt(kinds.length)];
+            float width;
+            switch (kind) {
+                case TOWER: width = tower(x, budget); break;
+                case BRIDGE: width = bridge(x, budget); break;
+                case NESTED_BOXES: width = nestedBoxes(x, budget); break;
+                default: width = pyramid(x, budget); break;
+            }
+            if (width == 0) {
+                // Too few bodies left for this kind; a pyramid fits any number
+                kind = Kind.PYRAMID;
+                width = pyramid(x, budget);
+            }
+            structures[kind.ordinal()]++;
+            x += width + GAP;
+        }
+        Layout layout = new Layout(pieces, x - GAP, structures);
+        random = null;
+        pieces = null;
+        return layout;
+    }
+
+    /**
+     * Storeys of two pillars under a plank, with a pig on the top plank.
+     *
+     * @return the width used, or 0 if the budget is too small
+     */
+    private float tower(float left, int budget) {
+        int storeys = Math.min(2 + random.nextInt(7), (budget - 1) / 3);
+        if (storeys < 1) {
+            return 0;
+        }
+        float width = 0.6f + random.nextFloat() * 0.6f;
+        float base = REST;
+        for (int i = 0; i < storeys; i++) {
+            pillar(left + PILLAR_HALF_WIDTH, base + PILLAR_HALF_HEIGHT);
+            pillar(left + width - PILLAR_HALF_WIDTH, base + PILLAR_HALF_HEIGHT);
+            base += PILLAR_HALF_HEIGHT * 2 + REST;
+            block(left + width / 2, base + PLANK_HALF_HEIGHT, width / 2, PLANK_HALF_HEIGHT, AssetCache.REGION_PLANK);
+            base += PLANK_HALF_HEIGHT * 2 + REST;
+        }
+        pig(left + width / 2, base + PIG_RADIUS);
+        return width;
+    }
+
+    /**
+     * A row of pillars carrying one deck plank per span; the planks meet over the middle
+     * of each pillar, just apart. A pig stands in the middle of every span.
+     */
+    private float bridge(float left, int budget) {
+        int spans = Math.min(1 + random.nextInt(6), (budget - 1) / 3);
+        if (spans < 1) {
+            return 0;
+        }
+        float span = 1.0f + random.nextFloat() * 0.6f;
+        float first = left + PILLAR_HALF_WIDTH;
+        float deckY = REST + PILLAR_HALF_HEIGHT * 2 + REST + PLANK_HALF_HEIGHT;
+        for (int i = 0; i <= spans; i++) {
+            pillar(first + i * span, REST + PILLAR_HALF_HEIGHT);
+        }
+        for (int i = 0; i < spans; i++) {
+            block(first + (i + 0.5f) * span, deckY, (span - REST) / 2, PLANK_HALF_HEIGHT, AssetCache.REGION_PLANK);
+        }
+        for (int i = 0; i < spans; i++) {
+            pig(first + (i + 0.5f) * span, deckY + PLANK_HALF_HEIGHT + REST + PIG_RADIUS);
+        }
+        return spans * span + PILLAR_HALF_WIDTH * 2;
+    }
+
+    /**
+     * Rows of boxes, each row one shorter and resting across two boxes below, with a pig on
+     * the top box. With a small budget the top row is left unfinished.
+     */
+    private float pyramid(float left, int budget) {
+        int rows = 3 + random.nextInt(8);
+        int boxes = rows * (rows + 1) / 2;
+        boolean withPig = budget > 1;
+        if (boxes + (withPig ? 1 : 0) > budget) {
+            boxes = withPig ? budget - 1 : budget;
+            rows = 1;
+            while (rows * (rows + 1) / 2 < boxes) {
+                rows++;
+            }
+        }
+        // Boxes and rows are spaced a resting gap apart
+        float size = BOX_HALF_SIZE * 2 + REST;
+        float topX = 0;
+        float topY = 0;
+        int placed = 0;
+        for (int row = 0; row < rows && placed < boxes; row++) {
+            for (int i = 0; i < rows - row && placed < boxes; i++) {
+                topX = left + BOX_HALF_SIZE + row * size / 2 + i * size;
+                topY = REST + BOX_HALF_SIZE + row * size;
+                block(topX, topY, BOX_HALF_SIZE, BOX_HALF_SIZE, AssetCache.REGION_PILLAR);
+                placed++;
+            }
+        }
+        if (withPig) {
+            pig(topX, topY + BOX_HALF_SIZE + REST + PIG_RADIUS);
+        }
+        return rows * size - REST;
+    }
+
+    /**
+     * Boxes of floor, two walls and a roof, each standing on the floor of the one around it,
+     * with a pig on the floor of the innermost.
+     */
+    private float nestedBoxes(float left, int budget) {
+        int depth = Math.min(1 + random.nextInt(4), (budget - 1) / 4);
+        if (depth < 1) {
+            return 0;
+        }
+        float wall = PLANK_HALF_HEIGHT * 2;
+        // The innermost box leaves room for a pig; each outer one for the box inside it
+        float innermost = wall * 2 + PIG_RADIUS * 3;
+        float outerWidth = innermost + (depth - 1) * (wall * 2 + NESTED_GAP * 2);
+        float centerX = left + outerWidth / 2;
+        for (int k = 0; k < depth; k++) {
+            float width = innermost + (depth - 1 - k) * (wall * 2 + NESTED_GAP * 2);
+            float height = innermost + (depth - 1 - k) * (wall * 2 + NESTED_GAP);
+            float bottom = REST + k * (wall + REST);
+            float wallHalfHeight = (height - wall * 2) / 2;
+            float wallY = bottom + wall + REST + wallHalfHeight;
+            block(centerX, bottom + wall / 2, width / 2, wall / 2, AssetCache.REGION_PLANK);
+            block(centerX - width / 2 + wall / 2, wallY, wall / 2, wallHalfHeight, AssetCache.REGION_PILLAR);
+            block(centerX + width / 2 - wall / 2, wallY, wall / 2, wallHalfHeight, AssetCache.REGION_PILLAR);
+            block(centerX, wallY + wallHalfHeight + REST + wall / 2, width / 2, wall / 2, AssetCache.REGION_PLANK);
+        }
+        pig(centerX, REST + depth * (wall + REST) + PIG_RADIUS);
+        return outerWidth;
+    }
+
+    private void pillar(float x, float y) {
+        float roll = random.nextFloat();
+        Material material = roll < 0.6f ? Material.WOOD : roll < 0.85f ? Material.STONE : Material.GLASS;
+        pieces.add(new Piece(PILLAR, x, y, PILLAR_HALF_WIDTH, PILLAR_HALF_HEIGHT, material, null));
+    }
+
+    private void block(float x, float y, float halfWidth, float halfHeight, String region) {
+        pieces.add(new Piece(BLOCK, x, y, halfWidth, halfHeight, null, region));
+    }
+
+    private void pig(float x, float y) {
+        pieces.add(new Piece(PIG, x, y, PIG_RADIUS, PIG_RADIUS, null, null));
+    }
+}
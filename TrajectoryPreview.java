@@ -0,0 +1,121 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Predicted flight of the bird while it is being dragged: where {@link LevelWorld#launchBird()}
+ * would send it from the current drag position. The path is integrated with the same fixed
+ * step and semi-implicit Euler scheme Box2D uses, sampled every {@link #STEPS_PER_POINT}
+ * steps into a preallocated buffer, and recomputed only when the drag position moves.
+ * Optionally each segment is ray-cast against the world to find the first impact.
+ */
+public class TrajectoryPreview {
+
+    static final int MAX_POINTS = 30;
+    static final int STEPS_PER_POINT = 3;
+
+    private final LevelWorld level;
+
+    // Sampled path in meters, x and y interleaved
+    private final float[] points = new float[MAX_POINTS * 2];
+    private int pointCount = 0;
+
+    private boolean impactTest = true;
+    private boolean hasImpact = false;
+    private final Vector2 impact = new Vector2();
+
+    // Inputs of the last computation
+    private float lastDragX = Float.NaN;
+    private float lastDragY = Float.NaN;
+
+    public TrajectoryPreview(LevelWorld level) {
+        this.level = level;
+    }
+
+    public void setImpactTest(boolean impactTest) {
+        if (this.impactTest != impactTest) {
+            this.impactTest = impactTest;
+            invalidate();
+        }
+    }
+
+    /** Forces the next {@link #update()} to recompute, e.g. after a restart. */
+    public void invalidate() {
+        lastDragX = Float.NaN;
+    }
+
+    /**
+     * Recomputes the path if the drag position changed since the last call.
+     *
+     * @return whether the path was recomputed
+     */
+    public boolean update() {
+        Vector2 drag = level.getDragPosition();
+        if (drag.x == lastDragX && drag.y == lastDragY) {
+            return false;
+        }
+        lastDragX = drag.x;
+        lastDragY = drag.y;
+
+        Body bird = level.birdBody;
+        float mass = bird.getMass();
+        Vector2 gravity = level.world.getGravity();
+        float gravityX = gravity.x;
+        float gravityY = gravity.y;
+        float dt = PhysicsClock.STEP;
+
+        float x = drag.x;
+        float y = drag.y;
+        float velocityX = (level.slingshotBase.x - drag.x) * LevelWorld.LAUNCH_IMPULSE_SCALE / mass;
+        float velocityY = (level.slingshotBase.y - drag.y) * LevelWorld.LAUNCH_IMPULSE_SCALE / mass;
+
+        points[0] = x;
+        points[1] = y;
+        pointCount = 1;
+        hasImpact = false;
+        while (pointCount < MAX_POINTS) {
+            for (int s = 0; s < STEPS_PER_POINT; s++) {
+                velocityX += gravityX * dt;
+                velocityY += gravityY * dt;
+                x += velocityX * dt;
+                y += velocityY * dt;
+            }
+            float fromX = points[(pointCount - 1) * 2];
+            float fromY = points[(pointCount - 1) * 2 + 1];
+            if (impactTest && level.query.rayCast(fromX, fromY, x, y, bird, LevelWorld.LAUNCHED_MASK) != null) {
+                impact.set(level.query.getRayPoint());
+                points[pointCount * 2] = impact.x;
+                points[pointCount * 2 + 1] = impact.y;
+                pointCount++;
+                hasImpact = true;
+                break;
+            }
+            points[pointCount * 2] = x;
+            points[pointCount * 2 + 1] = y;
+            pointCount++;
+        }
+        return true;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public float x(int i) {
+        return points[i * 2];
+    }
+
+    public float y(int i) {
+        return points[i * 2 + 1];
+    }
+
+    /** Whether the path ends on something; the point is {@link #getImpact()}. */
+    public boolean hasImpact() {
+        return hasImpact;
+    }
+
+    public Vector2 getImpact() {
+        return impact;
+    }
+}
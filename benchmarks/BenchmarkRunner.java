@@ -0,0 +1,26 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark in this directory and writes the results as JSON, so runs from
+ * different releases can be compared. Usage: <pre>BenchmarkRunner [result.json] [include-regex]</pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : "jmh-result.json";
+        String include = args.length > 1 ? args[1] : "io\\.github\\.some_example_name\\..*Benchmarks";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.some_example_name;
+
+/**
+ * Checks that every shot of a level can settle by falling asleep. Level two's queue (red,
+ * bomb, heavy) is played headless, taking the next bird from the queue between shots, and
+ * after each shot the level is stepped until the {@link SettleDetector} counts no body awake.
+ * That must happen before the detector's {@link SettleDetector#MAX_SETTLE_STEPS} cap, so a
+ * parked bird or a bird rolling on the ground that stays awake fails the check. Run with the
+ * Box2D natives on the classpath; exits with 1 if a shot never fell asleep.
+ */
+public class BirdQueueSettleCheck {
+
+    // Drag offsets from the slingshot base, in meters
+    private static final float[][] DRAGS = {{-0.4f, -0.1f}, {-0.35f, -0.35f}, {-0.4f, -0.1f}};
+
+    // Viewport size in meters, as the screens use for a 1280x720 window
+    private static final float VIEWPORT_WIDTH = 12.8f;
+    private static final float VIEWPORT_HEIGHT = 7.2f;
+
+    public static void main(String[] args) {
+        LevelWorld level = new LevelTwoWorld();
+        level.build();
+        PhysicsClock clock = new PhysicsClock(level.world, Integer.MAX_VALUE);
+        SettleDetector settle = new SettleDetector(level);
+        clock.addStepListener(level::afterStep);
+        clock.addStepListener(settle::update);
+        boolean failed = false;
+        try {
+            // The structure comes to rest first, as it does while the player aims
+            failed |= !waitForSettle(level, clock, settle, "structure");
+            for (int shot = 0; shot < DRAGS.length; shot++) {
+                if (shot > 0) {
+                    level.nextBird();
+                }
+                String name = "shot " + (shot + 1) + " (" + level.getBirdType() + ")";
+                level.dragBird(level.slingshotBase.x + DRAGS[shot][0], level.slingshotBase.y + DRAGS[shot][1],
+                    VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+                level.launchBird();
+                failed |= !waitForSettle(level, clock, settle, name);
+            }
+        } finally {
+            level.dispose();
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static boolean waitForSettle(LevelWorld level, PhysicsClock clock, SettleDetector settle, String name) {
+        settle.reset();
+        do {
+            clock.fastForward(1);
+        } while (settle.getAwakeCount() > 0 && settle.getSteps() < SettleDetector.MAX_SETTLE_STEPS);
+        // A bird that fell off the end of the ground never comes to rest
+        boolean birdFell = level.birdBody.getPosition().y < 0;
+        boolean ok = settle.getAwakeCount() == 0 || birdFell;
+        System.out.printf("%s: %s, %s%n", name,
+            settle.getAwakeCount() == 0 ? "asleep after " + settle.getSteps() + " steps"
+                : birdFell ? "bird fell off the ground" : settle.getAwakeCount() + " bodies still awake at the cap",
+            ok ? "ok" : "FAILED");
+        return ok;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.Random;
+
+/**
+ * Compares the two paths of {@link BlockRenderer} on a real GL context: batched sprites
+ * with rotation and one instanced call per texture. Unlike the JMH suite it needs a window,
+ * so start it from the desktop launcher in place of {@link MainGame}, with GL 3.0 requested
+ * so instancing is available, e.g. for Mesa's software rasterizer:
+ * <pre>
+ * LIBGL_ALWAYS_SOFTWARE=1 ... config.setOpenGLEmulation(GLEmulation.GL30, 3, 2);
+ * new Lwjgl3Application(new BlockRenderBenchmark(), config);
+ * </pre>
+ * For each block count it draws the same seeded field of rotated pillars and planks with
+ * each path. Per frame it records the CPU time to submit the draws and the time until
+ * glFinish returns, logs p50/p99 of both and exits. Switch vsync off in the config, or
+ * every frame takes at least a refresh interval.
+ */
+public class BlockRenderBenchmark extends ApplicationAdapter {
+
+    private static final int[] BLOCK_COUNTS = {1000, 10000, 50000};
+    private static final int WARMUP_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 300;
+    private static final long SEED = 42;
+
+    // Draw sizes in pixels: pillars and planks at half their in-game size, so 50k still mostly fit
+    private static final float PILLAR_WIDTH = 10, PILLAR_HEIGHT = 89;
+    private static final float PLANK_WIDTH = 200, PLANK_HEIGHT = 5;
+
+    private SpriteBatch batch;
+    private BlockRenderer blocks;
+    private TextureAtlas atlas;
+    private TextureRegion pillarRegion;
+    private TextureRegion plankRegion;
+
+    // x, y, angle per block, laid out once for the largest count
+    private float[] layout;
+
+    private int countIndex = 0;
+    private boolean instanced = false;
+    private int frame = 0;
+    private LatencyHistogram submitTimes = new LatencyHistogram();
+    private LatencyHistogram finishTimes = new LatencyHistogram();
+
+    @Override
+    public void create() {
+        batch = new SpriteBatch();
+        blocks = new BlockRenderer();
+        atlas = new TextureAtlas(Gdx.files.internal(AssetCache.SPRITE_ATLAS));
+        pillarRegion = atlas.findRegion(AssetCache.REGION_PILLAR);
+        plankRegion = atlas.findRegion(AssetCache.REGION_PLANK);
+        if (!blocks.isInstancingSupported()) {
+            Gdx.app.log("BlockRenderBenchmark", "No GL 3.0 context, only the batch path is measured");
+        }
+
+        int maxCount = BLOCK_COUNTS[BLOCK_COUNTS.length - 1];
+        layout = new float[maxCount * 3];
+        Random random = new Random(SEED);
+        for (int i = 0; i < maxCount; i++) {
+            layout[i * 3] = random.nextFloat() * Gdx.graphics.getWidth();
+            layout[i * 3 + 1] = random.nextFloat() * Gdx.graphics.getHeight();
+            layout[i * 3 + 2] = random.nextFloat() * (float) (Math.PI * 2);
+        }
+        blocks.setInstancing(false);
+    }
+
+    @Override
+    public void render() {
+        int count = BLOCK_COUNTS[countIndex];
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        long start = System.nanoTime();
+        batch.begin();
+        blocks.begin(batch);
+        for (int i = 0; i < count; i++) {
+            int o = i * 3;
+            if ((i & 7) == 0) {
+                blocks.draw(plankRegion, layout[o], layout[o + 1], PLANK_WIDTH, PLANK_HEIGHT, layout[o + 2]);
+            } else {
+                blocks.draw(pillarRegion, layout[o], layout[o + 1], PILLAR_WIDTH, PILLAR_HEIGHT, layout[o + 2]);
+            }
+        }
+        blocks.end();
+        batch.end();
+        long submitted = System.nanoTime();
+        Gdx.gl.glFinish();
+        long finished = System.nanoTime();
+
+        if (frame >= WARMUP_FRAMES) {
+            submitTimes.record(submitted - start);
+            finishTimes.record(finished - start);
+        }
+        if (++frame == WARMUP_FRAMES + MEASURED_FRAMES) {
+            report(count);
+            next();
+        }
+    }
+
+    private void report(int count) {
+        int drawCalls = instanced ? blocks.getDrawCalls() : batch.renderCalls;
+        Gdx.app.log("BlockRenderBenchmark", String.format(
+            "%6d blocks, %-9s: submit p50 %6.2f ms p99 %6.2f ms, to glFinish p50 %6.2f ms p99 %6.2f ms, %d draw calls",
+            count, instanced ? "instanced" : "batch",
+            submitTimes.percentile(50) / 1e6, submitTimes.percentile(99) / 1e6,
+            finishTimes.percentile(50) / 1e6, finishTimes.percentile(99) / 1e6, drawCalls));
+    }
+
+    // Batch then instanced for each count, skipping instanced where it is not supported
+    private void next() {
+        frame = 0;
+        submitTimes = new LatencyHistogram();
+        finishTimes = new LatencyHistogram();
+        if (!instanced && blocks.isInstancingSupported()) {
+            instanced = true;
+        } else {
+            instanced = false;
+            if (++countIndex == BLOCK_COUNTS.length) {
+                Gdx.app.exit();
+                countIndex--;
+            }
+        }
+        blocks.setInstancing(instanced);
+    }
+
+    @Override
+    public void dispose() {
+        blocks.dispose();
+        batch.dispose();
+        atlas.dispose();
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.some_example_name;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Checks that the GL-free part of a level frame allocates nothing once warmed up.
+ * It plays the frame loop of the level screen headless (drag, launch, physics clock,
+ * contact forwarding, damage and destruction, interpolated transform reads and win checks)
+ * and reads the thread's allocation counter around it. A second pass plays it through a
+ * {@link PhysicsThread} stepping on its own thread, with drags and the launch posted as
+ * {@link GameScreen} posts them, and counts what both threads allocate. Run with the Box2D
+ * natives on the classpath; exits with 1 when a frame allocates.
+ */
+public class FrameAllocationCheck {
+
+    private static final int FRAMES = 600;
+    // The posted pass steps in real time, so it plays fewer frames
+    private static final int POSTED_FRAMES = 300;
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final int JUDGED_RUNS = 3;
+    private static final int LAUNCH_FRAME = 60;
+    private static final float FRAME_TIME = 1 / 60f;
+
+    // Viewport size in meters, as the screens use for a 1280x720 window
+    private static final float VIEWPORT_WIDTH = 12.8f;
+    private static final float VIEWPORT_HEIGHT = 7.2f;
+
+    private static float sink;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        // The first run of each level warms up the JIT. Compiling and deoptimizing can still
+        // charge a few bytes to the thread once in a later run, while a frame that allocates
+        // does so in every run, so a level passes if one of its judged runs allocates nothing.
+        ToLongFunction<LevelWorld> inline = level -> measure(level, threads, threadId);
+        ToLongFunction<LevelWorld> posted = level -> measurePosted(level, threads, threadId);
+        inline.applyAsLong(new LevelOneWorld());
+        inline.applyAsLong(new LevelTwoWorld());
+        posted.applyAsLong(new LevelOneWorld());
+        posted.applyAsLong(new LevelTwoWorld());
+        boolean failed = !judge("LevelOneWorld", LevelOneWorld::new, inline, FRAMES);
+        failed |= !judge("LevelTwoWorld", LevelTwoWorld::new, inline, FRAMES);
+        failed |= !judge("LevelOneWorld, posted", LevelOneWorld::new, posted, POSTED_FRAMES);
+        failed |= !judge("LevelTwoWorld, posted", LevelTwoWorld::new, posted, POSTED_FRAMES);
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static boolean judge(String name, Supplier<LevelWorld> levels, ToLongFunction<LevelWorld> measure,
+                                 int frames) {
+        long allocated = measure.applyAsLong(levels.get());
+        for (int run = 1; run < JUDGED_RUNS && allocated > 0; run++) {
+            allocated = Math.min(allocated, measure.applyAsLong(levels.get()));
+        }
+        System.out.println(name + ": " + allocated + " bytes over " + frames + " frames ("
+            + (allocated / frames) + " bytes/frame)");
+        return allocated == 0;
+    }
+
+    /** Plays the level's frames and returns the bytes they allocated. */
+    private static long measure(LevelWorld level, com.sun.management.ThreadMXBean threads, long threadId) {
+        level.build();
+        PhysicsClock physicsClock = new PhysicsClock(level.world, 5);
+        PhysicsClock.InterpolatedBodies birdTransform = physicsClock.track(java.util.Collections.singletonList(level.birdBody));
+        PhysicsClock.InterpolatedBodies pillarTransforms = physicsClock.track(level.pillarBodies);
+        PhysicsClock.InterpolatedBodies pigTransforms = physicsClock.track(level.pigBodies);
+        ObjectiveTracker objectives = track(level, physicsClock);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int frame = 0; frame < FRAMES; frame++) {
+            runFrame(frame, level, physicsClock, objectives, birdTransform, pillarTransforms, pigTransforms);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        level.dispose();
+        return allocated;
+    }
+
+    /**
+     * Plays the level's frames with a stepping thread, posting input the way GameScreen does,
+     * and returns the bytes the render and stepping threads allocated.
+     */
+    private static long measurePosted(LevelWorld level, com.sun.management.ThreadMXBean threads, long threadId) {
+        level.build();
+        PhysicsClock physicsClock = new PhysicsClock(level.world, 5);
+        PhysicsClock.InterpolatedBodies birdTransform = physicsClock.track(java.util.Collections.singletonList(level.birdBody));
+        PhysicsClock.InterpolatedBodies pillarTransforms = physicsClock.track(level.pillarBodies);
+        PhysicsClock.InterpolatedBodies pigTransforms = physicsClock.track(level.pigBodies);
+        ObjectiveTracker objectives = track(level, physicsClock);
+        physicsClock.addStepListener(objectives::update);
+        PostedInput input = new PostedInput(level, birdTransform);
+        PhysicsThread physics = new PhysicsThread(physicsClock, "physics-allocation-check", true);
+        physics.start();
+        long physicsId = physics.getThreadId();
+
+        // Reading another thread's counter allocates, so it is read outside this thread's window
+        long physicsBefore = threads.getThreadAllocatedBytes(physicsId);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int frame = 0; frame < POSTED_FRAMES; frame++) {
+            physics.update(FRAME_TIME);
+            if (frame < LAUNCH_FRAME) {
+                float pull = frame / (float) LAUNCH_FRAME;
+                input.dragX = level.slingshotBase.x - pull;
+                input.dragY = level.slingshotBase.y - pull * 0.3f;
+                if (input.dragPosted.compareAndSet(false, true)) {
+                    physics.post(input.dragCommand);
+                }
+            } else if (frame == LAUNCH_FRAME) {
+                physics.post(input.launchCommand);
+            }
+            sink += birdTransform.x(0) + birdTransform.y(0);
+            for (int i = 0; i < pillarTransforms.size(); i++) {
+                sink += pillarTransforms.x(i) + pillarTransforms.y(i) + pillarTransforms.angle(i);
+            }
+            for (int i = 0; i < pigTransforms.size(); i++) {
+                sink += pigTransforms.x(i) + pigTransforms.y(i);
+            }
+            LockSupport.parkNanos(FRAME_NANOS);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        allocated += threads.getThreadAllocatedBytes(physicsId) - physicsBefore;
+        physics.dispose();
+        level.dispose();
+        return allocated;
+    }
+
+    /** Keeps an objective tracker up to date with the level's contacts, pushes and destructions. */
+    private static ObjectiveTracker track(LevelWorld level, PhysicsClock physicsClock) {
+        ObjectiveTracker objectives = new ObjectiveTracker(level.pillarBodies, level.pigBodies);
+        physicsClock.addStepListener(level::afterStep);
+        level.damage.setListener((body, data) -> objectives.onDestroyed(body));
+        level.setPushListener(objectives::onPushed);
+        level.setContactHandler((type, bodyA, bodyB, changed) -> {
+            if (type == ContactEventQueue.OVERFLOW) {
+                objectives.refreshAll();
+            } else {
+                objectives.onContact(bodyA, bodyB);
+            }
+        });
+        return objectives;
+    }
+
+    /** Render side of the drag and launch, with its commands created once as in GameScreen. */
+    private static final class PostedInput {
+        final LevelWorld level;
+        final PhysicsClock.InterpolatedBodies birdTransform;
+
+        volatile float dragX, dragY;
+        final AtomicBoolean dragPosted = new AtomicBoolean();
+        final Runnable dragCommand = this::applyDrag;
+        final Runnable launchCommand = this::applyLaunch;
+
+        PostedInput(LevelWorld level, PhysicsClock.InterpolatedBodies birdTransform) {
+            this.level = level;
+            this.birdTransform = birdTransform;
+        }
+
+        void applyDrag() {
+            dragPosted.set(false);
+            level.dragBird(dragX, dragY, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+            birdTransform.snap();
+        }
+
+        void applyLaunch() {
+            level.launchBird();
+        }
+    }
+
+    private static void runFrame(int frame, LevelWorld level, PhysicsClock physicsClock, ObjectiveTracker objectives,
+                                 PhysicsClock.InterpolatedBodies birdTransform,
+                                 PhysicsClock.InterpolatedBodies pillarTransforms,
+                                 PhysicsClock.InterpolatedBodies pigTransforms) {
+        physicsClock.advance(FRAME_TIME);
+        objectives.update();
+
+        // Pull the bird back and down over the first second, then let go
+        if (frame < LAUNCH_FRAME) {
+            float pull = frame / (float) LAUNCH_FRAME;
+            level.dragBird(level.slingshotBase.x - pull, level.slingshotBase.y - pull * 0.3f,
+                VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+            birdTransform.snap();
+        } else if (frame == LAUNCH_FRAME) {
+            level.launchBird();
+        }
+
+        sink += objectives.isLevelWon() ? 1 : 0;
+
+        // Reads go through the published snapshot, as on the screens' render thread
+        physicsClock.acquire();
+        sink += birdTransform.x(0) + birdTransform.y(0);
+        for (int i = 0; i < pillarTransforms.size(); i++) {
+            sink += pillarTransforms.x(i) + pillarTransforms.y(i) + pillarTransforms.angle(i);
+        }
+        for (int i = 0; i < pigTransforms.size(); i++) {
+            sink += pigTransforms.x(i) + pigTransforms.y(i);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Stress tests on {@link GeneratedLevelWorld}s of {@link #bodyCount} bodies, laid out from
+ * a fixed seed so every run and every machine measures the same structures. The world is
+ * rebuilt for every iteration and its structures, which start asleep, are woken, so
+ * stepping covers them moving as after a hit as well as the sleeping steady state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedLevelBenchmarks {
+
+    private static final long SEED = 20261017L;
+
+    @Param({"1000", "10000", "50000"})
+    public int bodyCount;
+
+    private GeneratedLevelWorld level;
+    private ObjectiveTracker objectives;
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        level = new GeneratedLevelWorld(SEED, bodyCount);
+        level.build();
+        Array<Body> bodies = new Array<>(level.world.getBodyCount());
+        level.world.getBodies(bodies);
+        for (Body body : bodies) {
+            body.setAwake(true);
+        }
+        objectives = new ObjectiveTracker(level.pillarBodies, level.pigBodies);
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeWorld() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public void worldStep() {
+        level.world.step(PhysicsClock.STEP, PhysicsClock.VELOCITY_ITERATIONS, PhysicsClock.POSITION_ITERATIONS);
+    }
+
+    /** One step with the level's own after-step work: contact draining, damage and objectives. */
+    @Benchmark
+    public void stepWithRules(Blackhole blackhole) {
+        level.world.step(PhysicsClock.STEP, PhysicsClock.VELOCITY_ITERATIONS, PhysicsClock.POSITION_ITERATIONS);
+        level.afterStep();
+        objectives.update();
+        blackhole.consume(objectives.isLevelWon());
+    }
+
+    @Benchmark
+    public void generateLayout(Blackhole blackhole) {
+        blackhole.consume(new StructureGenerator(SEED).generate(bodyCount).hash());
+    }
+
+    @Benchmark
+    public void buildAndDispose(Blackhole blackhole) {
+        GeneratedLevelWorld fresh = new GeneratedLevelWorld(SEED, bodyCount);
+        fresh.build();
+        blackhole.consume(fresh.pigBodies.size());
+        fresh.dispose();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import java.util.List;
+
+/**
+ * Checks that generated levels stand still when nobody shoots. Each level is left alone for
+ * {@link #IDLE_STEPS} steps with its damage model running, and then every pillar, block and
+ * pig must still exist and lie where {@link StructureGenerator} put it. The level is then
+ * restarted with one pillar destroyed, so it has to be created again, and checked once
+ * more. Run with the Box2D natives on the classpath; exits with 1 if a level moved.
+ */
+public class GeneratedLevelIdleCheck {
+
+    private static final long[] SEEDS = {1, 2, 3, 42};
+    private static final int BODY_COUNT = 200;
+    private static final int IDLE_STEPS = 600;
+
+    // How far a piece may end up from its place, in meters and radians
+    private static final float MAX_OFFSET = 0.02f;
+    private static final float MAX_ANGLE = 0.02f;
+
+    public static void main(String[] args) {
+        boolean failed = false;
+        for (long seed : SEEDS) {
+            GeneratedLevelWorld level = new GeneratedLevelWorld(seed, BODY_COUNT);
+            level.build();
+            PhysicsClock clock = new PhysicsClock(level.world, Integer.MAX_VALUE);
+            clock.addStepListener(level::afterStep);
+            try {
+                failed |= !check(level, clock, "built");
+                level.destroyBody(level.pillarBodies.get(0));
+                level.restart();
+                failed |= !check(level, clock, "restarted");
+            } finally {
+                level.dispose();
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static boolean check(GeneratedLevelWorld level, PhysicsClock clock, String when) {
+        clock.fastForward(IDLE_STEPS);
+        List<StructureGenerator.Piece> pieces = level.getLayout().pieces;
+        int pillars = 0;
+        int blocks = 0;
+        int pigs = 0;
+        int moved = 0;
+        for (StructureGenerator.Piece piece : pieces) {
+            List<Body> bodies;
+            int index;
+            switch (piece.kind) {
+                case StructureGenerator.PILLAR: bodies = level.pillarBodies; index = pillars++; break;
+                case StructureGenerator.BLOCK: bodies = level.blockBodies; index = blocks++; break;
+                default: bodies = level.pigBodies; index = pigs++; break;
+            }
+            if (index >= bodies.size()) {
+                continue;
+            }
+            Body body = bodies.get(index);
+            boolean turned = piece.kind != StructureGenerator.PIG && Math.abs(body.getAngle()) > MAX_ANGLE;
+            if (body.getPosition().dst(piece.x, piece.y) > MAX_OFFSET || turned) {
+                moved++;
+            }
+        }
+        int lost = pillars - level.pillarBodies.size() + blocks - level.blockBodies.size()
+            + pigs - level.pigBodies.size();
+        boolean ok = lost == 0 && moved == 0;
+        System.out.printf("%s, %s: %d bodies, %d lost, %d moved after %d steps, %s%n", level.getId(), when,
+            pieces.size(), lost, moved, IDLE_STEPS, ok ? "ok" : "FAILED");
+        return ok;
+    }
+}
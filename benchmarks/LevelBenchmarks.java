@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-frame hot paths of the first level, measured on a headless {@link LevelOneWorld}
+ * whose row of pillars is stretched to reach {@link #bodyCount} bodies.
+ * The world is rebuilt for every iteration, so stepping covers the structure settling
+ * as well as the sleeping steady state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmarks {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int bodyCount;
+
+    private LevelOneWorld level;
+    private PhysicsClock physicsClock;
+    private PhysicsClock.InterpolatedBodies pillarTransforms;
+    private PhysicsClock.InterpolatedBodies pigTransforms;
+    private ObjectiveTracker objectives;
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        // Each pillar carries one pig; bird, ground and platform make up the rest
+        level = new LevelOneWorld(Math.max(1, (bodyCount - 3) / 2));
+        level.build();
+        physicsClock = new PhysicsClock(level.world, 5);
+        pillarTransforms = physicsClock.track(level.pillarBodies);
+        pigTransforms = physicsClock.track(level.pigBodies);
+        objectives = new ObjectiveTracker(level.pillarBodies, level.pigBodies);
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeWorld() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public void worldStep() {
+        level.world.step(PhysicsClock.STEP, PhysicsClock.VELOCITY_ITERATIONS, PhysicsClock.POSITION_ITERATIONS);
+    }
+
+    /** The transform reads renderGameElements() did before interpolation: JNI per body. */
+    @Benchmark
+    public void extractTransformsDirect(Blackhole blackhole) {
+        for (Body pillarBody : level.pillarBodies) {
+            Vector2 pillarPosition = pillarBody.getPosition();
+            float pillarAngle = pillarBody.getAngle() * 180.0f / (float) Math.PI;
+            blackhole.consume(pillarPosition.x * LevelWorld.PPM - 10);
+            blackhole.consume(pillarPosition.y * LevelWorld.PPM - 89);
+            blackhole.consume(pillarAngle);
+        }
+        for (Body pigBody : level.pigBodies) {
+            Vector2 pigPosition = pigBody.getPosition();
+            blackhole.consume(pigPosition.x * LevelWorld.PPM);
+            blackhole.consume(pigPosition.y * LevelWorld.PPM);
+        }
+    }
+
+    /** One capture and publish of the physics clock plus the snapshot reads renderGameElements() does now. */
+    @Benchmark
+    public void extractTransformsInterpolated(Blackhole blackhole) {
+        pillarTransforms.snap();
+        pigTransforms.snap();
+        physicsClock.acquire();
+        for (int i = 0; i < pillarTransforms.size(); i++) {
+            blackhole.consume(pillarTransforms.x(i) * LevelWorld.PPM - 10);
+            blackhole.consume(pillarTransforms.y(i) * LevelWorld.PPM - 89);
+            blackhole.consume(pillarTransforms.angle(i));
+        }
+        for (int i = 0; i < pigTransforms.size(); i++) {
+            blackhole.consume(pigTransforms.x(i) * LevelWorld.PPM);
+            blackhole.consume(pigTransforms.y(i) * LevelWorld.PPM);
+        }
+    }
+
+    @Benchmark
+    public void winChecks(Blackhole blackhole) {
+        blackhole.consume(level.areAllPillarsDestroyed());
+        blackhole.consume(level.areAllPigsOnGround());
+    }
+
+    /** The per-frame cost of the incremental tracker: re-examine active bodies, then query. */
+    @Benchmark
+    public void winChecksIncremental(Blackhole blackhole) {
+        objectives.update();
+        blackhole.consume(objectives.isLevelWon());
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Building and stepping the second level as shipped, on a headless {@link LevelTwoWorld}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelTwoBenchmarks {
+
+    private LevelTwoWorld level;
+    private TrajectoryPreview trajectory;
+    private int dragFrame;
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        level = new LevelTwoWorld();
+        level.build();
+        trajectory = new TrajectoryPreview(level);
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeWorld() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public void worldStep() {
+        level.world.step(PhysicsClock.STEP, PhysicsClock.VELOCITY_ITERATIONS, PhysicsClock.POSITION_ITERATIONS);
+    }
+
+    @Benchmark
+    public void buildAndDispose(Blackhole blackhole) {
+        LevelTwoWorld fresh = new LevelTwoWorld();
+        fresh.build();
+        blackhole.consume(fresh.pigBodies.size());
+        fresh.dispose();
+    }
+
+    @Benchmark
+    public void winChecks(Blackhole blackhole) {
+        blackhole.consume(level.areAllPillarsDestroyed());
+        blackhole.consume(level.areAllPigsOnGround());
+    }
+
+    /** A full recompute including the impact ray casts, as on every frame the drag moves. */
+    @Benchmark
+    public boolean trajectoryPreview() {
+        float pull = (dragFrame++ & 63) / 64f;
+        level.dragBird(level.slingshotBase.x - pull * 0.5f, level.slingshotBase.y - pull * 0.2f, 12.8f, 7.2f);
+        return trajectory.update();
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import java.util.List;
+
+/**
+ * Checks that {@link ObjectiveTracker} follows bodies that wake up without a contact starting
+ * or ending on them. Level 1 is left to fall asleep, then a blast beside its first pillar
+ * knocks the row over. The tracker hears about destroyed and pushed bodies as in the
+ * screens, but not about contacts, so it only sees the blast and the bodies the solver
+ * pushes; after each step it must agree with a scan of every pillar and pig. Run with the
+ * Box2D natives on the classpath; exits with 1 if the tracker disagrees or the blast
+ * toppled nothing.
+ */
+public class ObjectiveWakeCheck {
+
+    private static final int MAX_SETTLE_STEPS = 600;
+    private static final int STEPS = 600;
+
+    // Blast to the left of the first pillar's center
+    private static final float BLAST_OFFSET_X = 0.3f;
+    private static final float BLAST_RADIUS = 0.8f;
+    private static final float BLAST_IMPULSE = 0.5f;
+
+    public static void main(String[] args) {
+        LevelWorld level = new LevelOneWorld();
+        level.build();
+        boolean ok;
+        try {
+            ok = check(level);
+        } finally {
+            level.dispose();
+        }
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static boolean check(LevelWorld level) {
+        PhysicsClock clock = new PhysicsClock(level.world, Integer.MAX_VALUE);
+        clock.addStepListener(level::afterStep);
+        int settleSteps = 0;
+        while (settleSteps < MAX_SETTLE_STEPS && isAnyAwake(level)) {
+            clock.fastForward(1);
+            settleSteps++;
+        }
+        int pillarCount = level.pillarBodies.size();
+        int pigCount = level.pigBodies.size();
+        Body pillar = level.pillarBodies.get(0);
+        float blastX = pillar.getPosition().x - BLAST_OFFSET_X;
+        float blastY = pillar.getPosition().y;
+
+        ObjectiveTracker objectives = new ObjectiveTracker(level.pillarBodies, level.pigBodies);
+        level.damage.setListener((body, data) -> objectives.onDestroyed(body));
+        level.setPushListener(objectives::onPushed);
+        clock.addStepListener(objectives::update);
+        // One step lets the tracker drop the sleeping bodies refreshAll made active
+        clock.fastForward(1);
+        int idleActive = objectives.getActiveCount();
+
+        int pushed = level.explode(blastX, blastY, BLAST_RADIUS, BLAST_IMPULSE, null);
+        int wrongSteps = 0;
+        int pillarsDone = 0;
+        int pigsDone = 0;
+        for (int step = 0; step < STEPS; step++) {
+            clock.fastForward(1);
+            pillarsDone = pillarCount - level.pillarBodies.size() + countPillarsDestroyed(level.pillarBodies);
+            pigsDone = pigCount - level.pigBodies.size() + countPigsOnGround(level.pigBodies);
+            if (objectives.getPillarsDestroyed() != pillarsDone || objectives.getPigsOnGround() != pigsDone) {
+                wrongSteps++;
+            }
+        }
+
+        boolean ok = idleActive == 0 && wrongSteps == 0 && pillarsDone > 0;
+        System.out.printf("%s: asleep after %d steps, %d active, blast pushed %d bodies; scan %d/%d pillars "
+                + "%d/%d pigs, tracker %d pillars %d pigs, wrong after %d of %d steps, %s%n",
+            level.getId(), settleSteps, idleActive, pushed, pillarsDone, pillarCount, pigsDone, pigCount,
+            objectives.getPillarsDestroyed(), objectives.getPigsOnGround(), wrongSteps, STEPS, ok ? "ok" : "FAILED");
+        return ok;
+    }
+
+    private static boolean isAnyAwake(LevelWorld level) {
+        for (int i = 0; i < level.pillarBodies.size(); i++) {
+            if (level.pillarBodies.get(i).isAwake()) {
+                return true;
+            }
+        }
+        for (int i = 0; i < level.pigBodies.size(); i++) {
+            if (level.pigBodies.get(i).isAwake()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int countPillarsDestroyed(List<Body> pillars) {
+        int count = 0;
+        for (int i = 0; i < pillars.size(); i++) {
+            count += LevelWorld.isPillarDestroyed(pillars.get(i)) ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static int countPigsOnGround(List<Body> pigs) {
+        int count = 0;
+        for (int i = 0; i < pigs.size(); i++) {
+            count += LevelWorld.isPigOnGround(pigs.get(i)) ? 1 : 0;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.some_example_name;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Checks that a shot recorded through a {@link PhysicsThread} replays to the same state.
+ * It plays every bird of a level headless the way the level screens do: drags and launches
+ * are posted as commands, and once a shot settles a step listener notes the next bird and
+ * finishes the recording. The recording goes through a file and {@link ShotReplayer}, and
+ * the checksums must match. It runs inline at 1, 2 and 5 steps per frame, and once on the
+ * stepping thread with fast-forward. Run with the Box2D natives on the classpath; exits
+ * with 1 on a mismatch.
+ */
+public class ReplayRoundTripCheck {
+
+    private static final int DRAG_FRAMES = 30;
+    private static final float FRAME_TIME = 1 / 60f;
+    private static final int FAST_FORWARD_STEPS = 8;
+
+    // Viewport size in meters, as the screens use for a 1280x720 window
+    private static final float VIEWPORT_WIDTH = 12.8f;
+    private static final float VIEWPORT_HEIGHT = 7.2f;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        boolean failed = false;
+        for (int stepsPerFrame : new int[] {1, 2, 5}) {
+            failed |= check("inline, " + stepsPerFrame + " steps/frame", new LevelOneWorld(), false, stepsPerFrame);
+        }
+        failed |= check("threaded", new LevelOneWorld(), true, 1);
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static boolean check(String name, LevelWorld level, boolean threaded, int stepsPerFrame)
+            throws IOException, InterruptedException {
+        level.build();
+        PhysicsClock clock = new PhysicsClock(level.world, 5);
+        SettleDetector settle = new SettleDetector(level);
+        ShotRecording recording = new ShotRecording(level.getId());
+        Shots shots = new Shots(level, clock, settle, recording);
+        clock.addStepListener(level::afterStep);
+        clock.addStepListener(settle::update);
+        clock.addStepListener(shots::afterStep);
+
+        PhysicsThread physics = new PhysicsThread(clock, "physics-check", threaded);
+        physics.start();
+        try {
+            while (!shots.done) {
+                // Pull the bird back and down, then let go and wait for the shot to settle
+                for (int frame = 1; frame <= DRAG_FRAMES; frame++) {
+                    float pull = frame / (float) DRAG_FRAMES;
+                    physics.post(() -> {
+                        level.dragBird(level.slingshotBase.x - pull, level.slingshotBase.y - pull * 0.3f,
+                            VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+                        recording.addDrag(clock.getTotalSteps(), level.getDragPosition().x, level.getDragPosition().y);
+                    });
+                    frame(physics, threaded, stepsPerFrame);
+                }
+                int shot = shots.settled;
+                physics.post(() -> {
+                    level.launchBird();
+                    recording.add(clock.getTotalSteps(), ShotRecording.LAUNCH,
+                        level.getLaunchImpulse().x, level.getLaunchImpulse().y);
+                    shots.inProgress = true;
+                    settle.reset();
+                });
+                physics.setFastForward(threaded ? FAST_FORWARD_STEPS : 0);
+                while (shots.settled == shot) {
+                    frame(physics, threaded, stepsPerFrame);
+                }
+                physics.setFastForward(0);
+            }
+        } finally {
+            physics.dispose();
+            level.dispose();
+        }
+
+        File file = File.createTempFile("round-trip", ".shot");
+        file.deleteOnExit();
+        recording.write(file);
+        ShotRecording read = ShotRecording.read(file);
+        long replayed = ShotReplayer.replay(read);
+        boolean matches = replayed == read.getChecksum();
+        System.out.printf("%s: %d shots, %d inputs, %d steps, checksum %s%n", name, shots.settled,
+            read.getEventCount(), read.getEndStep(), matches ? "ok" : "MISMATCH");
+        return !matches;
+    }
+
+    private static void frame(PhysicsThread physics, boolean threaded, int stepsPerFrame) throws InterruptedException {
+        physics.update(FRAME_TIME * stepsPerFrame);
+        if (threaded) {
+            Thread.sleep((long) (FRAME_TIME * 1000));
+        }
+    }
+
+    /** Physics side of the shots, as in the screens' step listener. */
+    private static final class Shots {
+        final LevelWorld level;
+        final PhysicsClock clock;
+        final SettleDetector settle;
+        final ShotRecording recording;
+
+        boolean inProgress = false;
+        volatile int settled = 0;
+        volatile boolean done = false;
+
+        Shots(LevelWorld level, PhysicsClock clock, SettleDetector settle, ShotRecording recording) {
+            this.level = level;
+            this.clock = clock;
+            this.settle = settle;
+            this.recording = recording;
+        }
+
+        void afterStep() {
+            if (!inProgress || !settle.isSettled()) {
+                return;
+            }
+            inProgress = false;
+            recording.finish(clock.getTotalSteps(), level.checksum());
+            if (level.getBirdsLeft() > 0) {
+                level.nextBird();
+                recording.add(clock.getTotalSteps(), ShotRecording.NEXT_BIRD);
+                settle.reset();
+            } else {
+                done = true;
+            }
+            settled++;
+        }
+    }
+}